@@ -0,0 +1,44 @@
+package com.hireready.config;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class AIClientConfig {
+
+    /**
+     * HTTP client shared by all AI providers
+     */
+    @Bean
+    public OkHttpClient aiHttpClient(
+            @Value("${ai.http.max.requests:256}") int maxRequests,
+            @Value("${ai.http.max.requests.per.host:128}") int maxRequestsPerHost) {
+        // OkHttp defaults to 5 concurrent calls per host, far too few for async turns
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxRequestsPerHost, 5, TimeUnit.MINUTES))
+                .connectTimeout(30, TimeUnit.SECONDS)
+                .readTimeout(60, TimeUnit.SECONDS)
+                .writeTimeout(30, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Clock used by AI circuit breakers, replaceable in tests
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+}
@@ -0,0 +1,206 @@
+package com.hireready.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * Executor that drives streamed AI responses to SSE clients
+     */
+    @Bean(name = "streamExecutor")
+    public ThreadPoolTaskExecutor streamExecutor(
+            @Value("${ai.stream.pool.size:32}") int poolSize,
+            @Value("${ai.stream.queue.capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-stream-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that completes async AI futures, keeping parsing and Mongo writes
+     * off OkHttp's dispatcher threads. When it rejects a completion, the
+     * provider completes the future on the dispatcher thread instead.
+     */
+    @Bean(name = "aiCallbackExecutor")
+    public ThreadPoolTaskExecutor aiCallbackExecutor(
+            @Value("${ai.callback.pool.size:32}") int poolSize,
+            @Value("${ai.callback.queue.capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-callback-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that persists live interview state behind the request. Writes
+     * for one session are chained, so the pool only runs different sessions in
+     * parallel. A full queue makes the caller write synchronously, and pending
+     * writes are drained on shutdown.
+     */
+    @Bean(name = "sessionWriteExecutor")
+    public ThreadPoolTaskExecutor sessionWriteExecutor(
+            @Value("${interview.live.write.pool.size:4}") int poolSize,
+            @Value("${interview.live.write.queue.capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("session-write-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that reads a live interview's schedule and transcript from Mongo
+     * while the session is rebuilt on a node that does not hold it. Kept apart
+     * from the AI callback pool so blocking reads never queue behind AI
+     * callbacks; a full queue makes the recovering thread read for itself.
+     */
+    @Bean(name = "sessionRecoveryExecutor")
+    public ThreadPoolTaskExecutor sessionRecoveryExecutor(
+            @Value("${interview.live.recovery.pool.size:4}") int poolSize,
+            @Value("${interview.live.recovery.queue.capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("session-recovery-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for background answer evaluations. It is separate from the
+     * callback pool so a burst of evaluations queues here instead of delaying
+     * question generation; when its queue is full further evaluations are
+     * rejected rather than run on the caller's thread. Queued evaluations are
+     * drained on shutdown.
+     */
+    @Bean(name = "evaluationExecutor")
+    public ThreadPoolTaskExecutor evaluationExecutor(MeterRegistry meterRegistry,
+            @Value("${interview.evaluation.pool.size:8}") int poolSize,
+            @Value("${interview.evaluation.queue.capacity:500}") int queueCapacity,
+            @Value("${interview.evaluation.shutdown.wait.seconds:60}") int shutdownWaitSeconds) {
+        Timer queueWait = Timer.builder("interview.evaluation.queue.wait")
+                .description("Time answer evaluations spend queued")
+                .register(meterRegistry);
+        Timer execution = Timer.builder("interview.evaluation.execution")
+                .description("Time spent evaluating an answer")
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("interview.evaluation.rejected")
+                .description("Answer evaluations dropped because the queue was full")
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("evaluation-");
+        executor.setTaskDecorator(task -> {
+            long queuedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    execution.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        });
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("Answer evaluation queue is full");
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(shutdownWaitSeconds);
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "evaluationExecutor", Tags.empty())
+                .bindTo(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * Executor that runs background resume analysis jobs. A full queue rejects
+     * the job, which stays queued in Mongo until the recovery sweep picks it up.
+     */
+    @Bean(name = "resumeJobExecutor")
+    public ThreadPoolTaskExecutor resumeJobExecutor(
+            @Value("${resume.jobs.pool.size:4}") int poolSize,
+            @Value("${resume.jobs.queue.capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("resume-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that renders or decodes the pages of scanned documents and OCRs
+     * them, one page per task. Sized to the cores by default; a full queue
+     * makes the caller process the page itself.
+     */
+    @Bean(name = "ocrPageExecutor")
+    public ThreadPoolTaskExecutor ocrPageExecutor(
+            @Value("${ocr.page.pool.size:0}") int poolSize,
+            @Value("${ocr.page.queue.capacity:100}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ocr-page-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Fork-join pool that strips page ranges of long PDFs in parallel. Sized to
+     * the cores by default, since text extraction is CPU bound.
+     */
+    @Bean(name = "pdfExtractionPool", destroyMethod = "shutdown")
+    public ForkJoinPool pdfExtractionPool(@Value("${resume.pdf.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,43 @@
+package com.hireready.controller;
+
+import com.hireready.dto.ApiResponse;
+import com.hireready.service.AIService;
+import com.hireready.service.ai.AdaptiveLimiter;
+import com.hireready.service.ai.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/ai")
+@CrossOrigin(origins = "${cors.allowed.origins}")
+public class AIStatusController {
+
+    private final AIService aiService;
+
+    public AIStatusController(AIService aiService) {
+        this.aiService = aiService;
+    }
+
+    /**
+     * Get circuit breaker state and health of every AI provider
+     */
+    @GetMapping("/providers")
+    public ResponseEntity<ApiResponse<List<CircuitBreaker.Snapshot>>> getProviderStatus() {
+        log.info("Fetching AI provider status");
+        return ResponseEntity.ok(ApiResponse.success(aiService.getProviderStatus()));
+    }
+
+    /**
+     * Get the adaptive concurrency limit, queue depth and rejections of every AI
+     * provider
+     */
+    @GetMapping("/limits")
+    public ResponseEntity<ApiResponse<List<AdaptiveLimiter.Snapshot>>> getProviderLimits() {
+        log.info("Fetching AI provider rate limits");
+        return ResponseEntity.ok(ApiResponse.success(aiService.getProviderLimits()));
+    }
+}
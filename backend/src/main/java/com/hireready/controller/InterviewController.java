@@ -12,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -46,13 +47,13 @@ public class InterviewController {
      * Submit answer and get next question
      */
     @PostMapping("/submit-answer")
-    public ResponseEntity<ApiResponse<InterviewSession>> submitAnswer(
+    public CompletableFuture<ResponseEntity<ApiResponse<InterviewSession>>> submitAnswer(
             @Valid @RequestBody InterviewAnswerRequest request) {
         log.info("Submitting answer for session: {}", request.getSessionId());
 
-        InterviewSession session = interviewService.submitAnswer(request.getSessionId(), request.getAnswer());
-
-        return ResponseEntity.ok(ApiResponse.success("Answer submitted successfully", session));
+        return interviewService.submitAnswerAsync(request.getSessionId(), request.getAnswer())
+                .thenApply(session -> ResponseEntity.ok(
+                        ApiResponse.success("Answer submitted successfully", session)));
     }
 
     /**
@@ -69,12 +69,13 @@ public class InterviewScheduleController {
             @RequestParam String position,
             @RequestParam String roundType,
             @RequestParam String difficulty,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime scheduledTime) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime scheduledTime,
+            @RequestParam(required = false) String resumeId) {
 
         log.info("Scheduling interview for user: {}, company: {}, role: {}", userId, company, role);
 
         InterviewSchedule schedule = scheduleService.scheduleInterview(
-                userId, company, role, position, roundType, difficulty, scheduledTime);
+                userId, company, role, position, roundType, difficulty, scheduledTime, resumeId);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Interview scheduled successfully", schedule));
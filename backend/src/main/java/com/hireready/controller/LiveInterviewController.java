@@ -5,9 +5,20 @@ import com.hireready.model.InterviewEvaluation;
 import com.hireready.model.InterviewSession;
 import com.hireready.service.LiveInterviewService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @RestController
@@ -16,9 +27,15 @@ import org.springframework.web.bind.annotation.*;
 public class LiveInterviewController {
 
     private final LiveInterviewService liveInterviewService;
+    private final TaskExecutor streamExecutor;
+
+    @Value("${ai.stream.timeout.ms:120000}")
+    private long streamTimeoutMs;
 
-    public LiveInterviewController(LiveInterviewService liveInterviewService) {
+    public LiveInterviewController(LiveInterviewService liveInterviewService,
+            @Qualifier("streamExecutor") TaskExecutor streamExecutor) {
         this.liveInterviewService = liveInterviewService;
+        this.streamExecutor = streamExecutor;
     }
 
     /**
@@ -43,19 +60,74 @@ public class LiveInterviewController {
      * Get next interview question
      */
     @PostMapping("/next-question")
-    public ResponseEntity<ApiResponse<String>> getNextQuestion(
+    public CompletableFuture<ResponseEntity<ApiResponse<String>>> getNextQuestion(
             @RequestParam String sessionId,
             @RequestParam(required = false) String previousAnswer) {
 
         log.info("Getting next question for session: {}", sessionId);
 
         try {
-            String question = liveInterviewService.getNextQuestion(sessionId, previousAnswer);
-            return ResponseEntity.ok(ApiResponse.success("Question generated successfully", question));
+            return liveInterviewService.getNextQuestionAsync(sessionId, previousAnswer)
+                    .thenApply(question -> ResponseEntity.ok(
+                            ApiResponse.success("Question generated successfully", question)))
+                    .exceptionally(e -> {
+                        log.error("Failed to generate question", e);
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                .body(ApiResponse.error("Failed to generate question: " + unwrap(e).getMessage()));
+                    });
         } catch (Exception e) {
             log.error("Failed to generate question", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to generate question: " + e.getMessage()));
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to generate question: " + e.getMessage())));
+        }
+    }
+
+    /**
+     * Stream next interview question as server-sent events. Emits "token" events
+     * as the AI produces text, then a single "done" event with the full question.
+     */
+    @PostMapping(value = "/next-question/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNextQuestion(
+            @RequestParam String sessionId,
+            @RequestParam(required = false) String previousAnswer) {
+
+        log.info("Streaming next question for session: {}", sessionId);
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        AtomicBoolean clientConnected = new AtomicBoolean(true);
+        emitter.onTimeout(() -> clientConnected.set(false));
+        emitter.onError(e -> clientConnected.set(false));
+
+        streamExecutor.execute(() -> {
+            try {
+                String question = liveInterviewService.streamNextQuestion(sessionId, previousAnswer,
+                        token -> sendEvent(emitter, clientConnected, "token", Map.of("text", token)));
+                sendEvent(emitter, clientConnected, "done", Map.of("question", question));
+                emitter.complete();
+            } catch (Exception e) {
+                log.error("Failed to stream question", e);
+                sendEvent(emitter, clientConnected, "error",
+                        Map.of("message", "Failed to generate question: " + e.getMessage()));
+                emitter.complete();
+            }
+        });
+
+        return emitter;
+    }
+
+    /**
+     * Send an SSE event, keeping generation alive if the client has gone away so
+     * the question is still persisted
+     */
+    private void sendEvent(SseEmitter emitter, AtomicBoolean clientConnected, String name, Object data) {
+        if (!clientConnected.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Client disconnected from question stream: {}", e.getMessage());
+            clientConnected.set(false);
         }
     }
 
@@ -63,16 +135,23 @@ public class LiveInterviewController {
      * End interview and get final evaluation
      */
     @PostMapping("/end")
-    public ResponseEntity<ApiResponse<InterviewEvaluation>> endInterview(@RequestParam String sessionId) {
+    public CompletableFuture<ResponseEntity<ApiResponse<InterviewEvaluation>>> endInterview(
+            @RequestParam String sessionId) {
         log.info("Ending interview session: {}", sessionId);
 
         try {
-            InterviewEvaluation evaluation = liveInterviewService.endInterview(sessionId);
-            return ResponseEntity.ok(ApiResponse.success("Interview completed successfully", evaluation));
+            return liveInterviewService.endInterviewAsync(sessionId)
+                    .thenApply(evaluation -> ResponseEntity.ok(
+                            ApiResponse.success("Interview completed successfully", evaluation)))
+                    .exceptionally(e -> {
+                        log.error("Failed to end interview", e);
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                .body(ApiResponse.error("Failed to complete interview: " + unwrap(e).getMessage()));
+                    });
         } catch (Exception e) {
             log.error("Failed to end interview", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("Failed to complete interview: " + e.getMessage()));
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to complete interview: " + e.getMessage())));
         }
     }
 
@@ -109,4 +188,8 @@ public class LiveInterviewController {
                     .body(ApiResponse.error("Failed to delete evaluation: " + e.getMessage()));
         }
     }
+
+    private Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
 }
@@ -1,13 +1,22 @@
 package com.hireready.controller;
 
 import com.hireready.dto.ApiResponse;
+import com.hireready.dto.ResumeAnalysisJobStatus;
 import com.hireready.model.Resume;
+import com.hireready.model.ResumeAnalysisJob;
+import com.hireready.service.ResumeAnalysisJobService;
 import com.hireready.service.ResumeService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -16,9 +25,14 @@ import org.springframework.web.multipart.MultipartFile;
 public class ResumeController {
 
     private final ResumeService resumeService;
+    private final ResumeAnalysisJobService jobService;
+
+    @Value("${resume.jobs.stream.timeout.ms:300000}")
+    private long jobStreamTimeoutMs;
 
-    public ResumeController(ResumeService resumeService) {
+    public ResumeController(ResumeService resumeService, ResumeAnalysisJobService jobService) {
         this.resumeService = resumeService;
+        this.jobService = jobService;
     }
 
     /**
@@ -53,17 +67,125 @@ public class ResumeController {
      * Analyze uploaded resume
      */
     @PostMapping("/analyze")
-    public ResponseEntity<ApiResponse<Resume>> analyzeResume(
+    public CompletableFuture<ResponseEntity<ApiResponse<Resume>>> analyzeResume(
             @RequestParam("userId") String userId,
             @RequestParam("file") MultipartFile file,
             @RequestParam(value = "targetRole", required = false) String targetRole) {
 
         log.info("Analyzing resume for user: {}", userId);
 
-        Resume resume = resumeService.analyzeResume(userId, file, targetRole);
+        return resumeService.analyzeResumeAsync(userId, file, targetRole)
+                .thenApply(resume -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ApiResponse.success("Resume analyzed successfully", resume)));
+    }
 
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success("Resume analyzed successfully", resume));
+    /**
+     * Accept an uploaded resume for analysis in the background. Returns 202 with
+     * the job to poll or stream; repeating the request returns the same job.
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<ApiResponse<ResumeAnalysisJobStatus>> submitAnalysisJob(
+            @RequestParam("userId") String userId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "targetRole", required = false) String targetRole,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+
+        log.info("Submitting resume analysis job for user: {}", userId);
+
+        ResumeAnalysisJob job = jobService.submit(userId, file, targetRole, idempotencyKey);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header("Location", "/api/resume/jobs/" + job.getId())
+                .body(ApiResponse.success("Resume analysis accepted", ResumeAnalysisJobStatus.of(job)));
+    }
+
+    /**
+     * Get the status of a resume analysis job
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<ResumeAnalysisJobStatus>> getAnalysisJob(@PathVariable String jobId) {
+        ResumeAnalysisJob job = jobService.getJob(jobId);
+
+        if (job == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("Analysis job not found"));
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(ResumeAnalysisJobStatus.of(job)));
+    }
+
+    /**
+     * Get the analyzed resume of a finished job; 202 while it is still running
+     */
+    @GetMapping("/jobs/{jobId}/result")
+    public ResponseEntity<ApiResponse<Resume>> getAnalysisJobResult(@PathVariable String jobId) {
+        ResumeAnalysisJob job = jobService.getJob(jobId);
+
+        if (job == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("Analysis job not found"));
+        }
+        if (ResumeAnalysisJobService.FAILED.equals(job.getStatus())) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(ApiResponse.error("Resume analysis failed: " + job.getError()));
+        }
+        if (!ResumeAnalysisJobService.SUCCEEDED.equals(job.getStatus())) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.error("Resume analysis is still in progress"));
+        }
+
+        Resume resume = resumeService.getResumeById(job.getResumeId());
+        if (resume == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("Resume not found"));
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(resume));
+    }
+
+    /**
+     * Stream a job's progress as server-sent events. Emits a "stage" event with
+     * the status on each change, then "done" or "error" when it finishes.
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAnalysisJob(@PathVariable String jobId) {
+        SseEmitter emitter = new SseEmitter(jobStreamTimeoutMs);
+
+        // Subscribe before reading the current state so no change falls between
+        Runnable unsubscribe = jobService.subscribe(jobId, status -> sendJobEvent(emitter, status));
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        ResumeAnalysisJob job = jobService.getJob(jobId);
+        if (job == null) {
+            sendEvent(emitter, "error", ApiResponse.error("Analysis job not found"));
+            emitter.complete();
+        } else {
+            sendJobEvent(emitter, ResumeAnalysisJobStatus.of(job));
+        }
+
+        return emitter;
+    }
+
+    private void sendJobEvent(SseEmitter emitter, ResumeAnalysisJobStatus status) {
+        if (ResumeAnalysisJobService.SUCCEEDED.equals(status.getStatus())) {
+            sendEvent(emitter, "done", status);
+            emitter.complete();
+        } else if (ResumeAnalysisJobService.FAILED.equals(status.getStatus())) {
+            sendEvent(emitter, "error", status);
+            emitter.complete();
+        } else {
+            sendEvent(emitter, "stage", status);
+        }
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Client disconnected from analysis job stream: {}", e.getMessage());
+        }
     }
 
     /**
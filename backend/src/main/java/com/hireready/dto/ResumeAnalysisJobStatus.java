@@ -0,0 +1,26 @@
+package com.hireready.dto;
+
+import com.hireready.model.ResumeAnalysisJob;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeAnalysisJobStatus {
+    private String jobId;
+    private String status;
+    private String stage;
+    private String resumeId;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static ResumeAnalysisJobStatus of(ResumeAnalysisJob job) {
+        return new ResumeAnalysisJobStatus(job.getId(), job.getStatus(), job.getStage(), job.getResumeId(),
+                job.getError(), job.getCreatedAt(), job.getUpdatedAt());
+    }
+}
@@ -0,0 +1,31 @@
+package com.hireready.dto.ai;
+
+import java.util.List;
+
+/**
+ * Evaluation of a single answer. The live interview prompt only asks for score
+ * and feedback; the practice interview prompt also asks for the sentiment and
+ * difficulty fields. A response without a score fails to decode; missing
+ * feedback stays null and the other fields default to neutral values.
+ */
+public record AnswerEvaluationResult(
+        @Required Double score,
+        String feedback,
+        String sentiment,
+        Double confidenceLevel,
+        Integer fillerWordCount,
+        List<String> detectedEmotions,
+        Double technicalAccuracy,
+        Double communicationClarity,
+        Boolean shouldIncreaseDifficulty) {
+
+    public AnswerEvaluationResult {
+        sentiment = sentiment != null ? sentiment : "NEUTRAL";
+        confidenceLevel = confidenceLevel != null ? confidenceLevel : 0.0;
+        fillerWordCount = fillerWordCount != null ? fillerWordCount : 0;
+        detectedEmotions = detectedEmotions != null ? detectedEmotions : List.of();
+        technicalAccuracy = technicalAccuracy != null ? technicalAccuracy : score;
+        communicationClarity = communicationClarity != null ? communicationClarity : 0.0;
+        shouldIncreaseDifficulty = shouldIncreaseDifficulty != null && shouldIncreaseDifficulty;
+    }
+}
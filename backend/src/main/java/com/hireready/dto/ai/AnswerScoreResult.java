@@ -0,0 +1,8 @@
+package com.hireready.dto.ai;
+
+/**
+ * One entry of a batch answer evaluation, keyed by the question it scores. An
+ * entry without a question number or score is dropped from the batch.
+ */
+public record AnswerScoreResult(@Required Integer questionNumber, @Required Double score, String feedback) {
+}
@@ -0,0 +1,7 @@
+package com.hireready.dto.ai;
+
+/**
+ * A question and its answer sent for batch evaluation
+ */
+public record AnswerToEvaluate(int questionNumber, String question, String answer) {
+}
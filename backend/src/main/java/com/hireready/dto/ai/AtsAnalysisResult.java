@@ -0,0 +1,26 @@
+package com.hireready.dto.ai;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ATS score and recommendations returned by the ATS analysis prompt. A response
+ * without a score fails to decode; other missing or malformed fields default to
+ * empty collections.
+ */
+public record AtsAnalysisResult(
+        @Required Double atsScore,
+        Map<String, Object> skillGapAnalysis,
+        List<String> weaknesses,
+        List<String> recommendations,
+        List<String> improvedBulletPoints,
+        List<String> atsKeywords) {
+
+    public AtsAnalysisResult {
+        skillGapAnalysis = skillGapAnalysis != null ? skillGapAnalysis : Map.of();
+        weaknesses = weaknesses != null ? weaknesses : List.of();
+        recommendations = recommendations != null ? recommendations : List.of();
+        improvedBulletPoints = improvedBulletPoints != null ? improvedBulletPoints : List.of();
+        atsKeywords = atsKeywords != null ? atsKeywords : List.of();
+    }
+}
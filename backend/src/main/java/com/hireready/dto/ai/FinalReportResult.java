@@ -0,0 +1,27 @@
+package com.hireready.dto.ai;
+
+import java.util.List;
+
+/**
+ * Evaluation report returned at the end of a live interview. A report without
+ * an overall score fails to decode; a missing decision is derived from the
+ * score using the thresholds given in the prompt.
+ */
+public record FinalReportResult(
+        @Required Integer overallScore,
+        String decision,
+        List<String> strengths,
+        List<String> weaknesses,
+        List<String> improvements,
+        String detailedFeedback) {
+
+    public FinalReportResult {
+        if (overallScore != null && (decision == null || decision.isBlank())) {
+            decision = overallScore >= 70 ? "SELECTED" : overallScore >= 50 ? "WAITLISTED" : "REJECTED";
+        }
+        strengths = strengths != null ? strengths : List.of();
+        weaknesses = weaknesses != null ? weaknesses : List.of();
+        improvements = improvements != null ? improvements : List.of();
+        detailedFeedback = detailedFeedback != null ? detailedFeedback : "";
+    }
+}
@@ -0,0 +1,20 @@
+package com.hireready.dto.ai;
+
+import java.util.List;
+
+/**
+ * Overall feedback returned at the end of a practice interview
+ */
+public record InterviewFeedbackResult(
+        Double overallReadiness,
+        List<String> strengths,
+        List<String> improvements,
+        String detailedFeedback) {
+
+    public InterviewFeedbackResult {
+        overallReadiness = overallReadiness != null ? overallReadiness : 0.0;
+        strengths = strengths != null ? strengths : List.of();
+        improvements = improvements != null ? improvements : List.of();
+        detailedFeedback = detailedFeedback != null ? detailedFeedback : "";
+    }
+}
@@ -0,0 +1,14 @@
+package com.hireready.dto.ai;
+
+import java.util.List;
+
+/**
+ * A question returned by the role interview question prompt
+ */
+public record InterviewQuestionResult(String question, List<String> expectedKeyPoints) {
+
+    public InterviewQuestionResult {
+        question = question != null ? question.trim() : "";
+        expectedKeyPoints = expectedKeyPoints != null ? expectedKeyPoints : List.of();
+    }
+}
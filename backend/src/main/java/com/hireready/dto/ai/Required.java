@@ -0,0 +1,17 @@
+package com.hireready.dto.ai;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a response field the rest of the response is meaningless without. Such
+ * a field is left null when missing, and decoding a response without it fails
+ * so the caller can fall back, rather than a default standing in for the AI's
+ * answer.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Required {
+}
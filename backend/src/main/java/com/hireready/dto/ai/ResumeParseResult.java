@@ -0,0 +1,25 @@
+package com.hireready.dto.ai;
+
+import com.hireready.model.Resume;
+
+import java.util.List;
+
+/**
+ * Structured resume data returned by the resume parse prompt. Missing or
+ * malformed fields default to empty lists.
+ */
+public record ResumeParseResult(
+        List<String> skills,
+        List<Resume.Project> projects,
+        List<Resume.Education> education,
+        List<String> achievements,
+        List<Resume.Experience> experience) {
+
+    public ResumeParseResult {
+        skills = skills != null ? skills : List.of();
+        projects = projects != null ? projects : List.of();
+        education = education != null ? education : List.of();
+        achievements = achievements != null ? achievements : List.of();
+        experience = experience != null ? experience : List.of();
+    }
+}
@@ -33,6 +33,7 @@ public class InterviewSchedule {
     // Resume Information (optional)
     private String resumeId; // Reference to uploaded resume
     private String resumeText; // Extracted text from resume for AI context
+    private String resumeDigest; // Skills, experience and projects from the parsed resume, used in prompts
 
     // Scheduling
     private LocalDateTime scheduledTime;
@@ -31,6 +31,10 @@ public class InterviewSession {
     private List<QuestionAnswer> questionAnswers = new ArrayList<>();
     private Integer currentDifficultyLevel = 1; // 1-5 scale
 
+    // Rolling summary of exchanges that no longer fit in the prompt verbatim
+    private String conversationSummary;
+    private Integer summarizedThroughQuestion = 0;
+
     // Scoring
     private Double technicalScore = 0.0;
     private Double communicationScore = 0.0;
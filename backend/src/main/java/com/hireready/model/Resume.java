@@ -28,6 +28,12 @@ public class Resume {
     private String fileType; // PDF, IMAGE, TEXT
     private String originalText;
 
+    // Content hashes (SHA-256 with the target role) used to reuse identical analyses
+    @Indexed
+    private String fileHash;
+    @Indexed
+    private String analysisHash;
+
     // Parsed data
     private List<String> skills;
     private List<Project> projects;
@@ -0,0 +1,62 @@
+package com.hireready.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "resume_analysis_jobs")
+public class ResumeAnalysisJob {
+
+    @Id
+    private String id;
+
+    // Guards claims and checkpoints against a second worker picking up the job
+    @Version
+    private Long version;
+
+    @Indexed
+    private String userId;
+
+    // Client supplied Idempotency-Key, or the user and file hash
+    @Indexed(unique = true)
+    private String idempotencyKey;
+
+    // Upload
+    private String targetRole;
+    private String fileName;
+    private String contentType;
+    private String spoolPath; // Where the upload is kept until its text is extracted
+
+    // Progress
+    private String status; // QUEUED, RUNNING, SUCCEEDED, FAILED
+    private String stage; // extracting, parsing, scoring, saving
+    private Integer attempts;
+    private String error;
+
+    // Checkpoints, so a resumed job skips the stages it already finished
+    private String fileType;
+    private String extractedText;
+    private String fileHash;
+    private String analysisHash;
+    private String reusedResumeId; // Earlier analysis of identical content
+    private String parseResult;
+    private String atsResult;
+
+    // Result
+    private String resumeId;
+
+    // Timestamps
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    @Indexed(expireAfter = "7d")
+    private LocalDateTime completedAt;
+}
@@ -2,6 +2,8 @@ package com.hireready.repository;
 
 import com.hireready.model.InterviewExchange;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,5 +12,13 @@ import java.util.List;
 public interface InterviewExchangeRepository extends MongoRepository<InterviewExchange, String> {
     List<InterviewExchange> findBySessionIdOrderByTimestampAsc(String sessionId);
 
+    /**
+     * Set an answer's evaluation in place with a single $set, leaving the rest
+     * of the document untouched
+     */
+    @Query("{ '_id' : ?0 }")
+    @Update("{ '$set' : { 'score' : ?1, 'feedback' : ?2 } }")
+    long updateScoreAndFeedbackById(String id, Integer score, String feedback);
+
     void deleteBySessionId(String sessionId);
 }
@@ -0,0 +1,18 @@
+package com.hireready.repository;
+
+import com.hireready.model.ResumeAnalysisJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResumeAnalysisJobRepository extends MongoRepository<ResumeAnalysisJob, String> {
+
+    Optional<ResumeAnalysisJob> findByIdempotencyKey(String idempotencyKey);
+
+    List<ResumeAnalysisJob> findByStatusInAndUpdatedAtBefore(Collection<String> statuses, LocalDateTime updatedAt);
+}
@@ -17,4 +17,8 @@ public interface ResumeRepository extends MongoRepository<Resume, String> {
     Resume findTopByUserIdOrderByAnalyzedAtDesc(String userId);
 
     Optional<Resume> findFirstByUserIdOrderByCreatedAtDesc(String userId);
+
+    Optional<Resume> findFirstByFileHashOrderByAnalyzedAtDesc(String fileHash);
+
+    Optional<Resume> findFirstByAnalysisHashOrderByAnalyzedAtDesc(String analysisHash);
 }
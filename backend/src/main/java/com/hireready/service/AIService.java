@@ -1,170 +1,318 @@
 package com.hireready.service;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.hireready.dto.ai.AnswerToEvaluate;
 import com.hireready.exception.AIServiceException;
+import com.hireready.service.ai.AIProvider;
+import com.hireready.service.ai.AdaptiveLimiter;
+import com.hireready.service.ai.CircuitBreaker;
+import com.hireready.service.ai.HedgingPolicy;
+import com.hireready.service.ai.ProviderRouter;
+import com.hireready.service.ai.RateLimitedException;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.*;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 public class AIService {
 
-    @Value("${ai.gemini.api.key}")
-    private String geminiApiKey;
+    private final ProviderRouter providerRouter;
+    private final Executor callbackExecutor;
+    private final HedgingPolicy hedgingPolicy;
 
-    @Value("${ai.gemini.api.url}")
-    private String geminiApiUrl;
-
-    @Value("${ai.groq.api.key}")
-    private String groqApiKey;
-
-    @Value("${ai.groq.api.url}")
-    private String groqApiUrl;
-
-    @Value("${ai.groq.model}")
-    private String groqModel;
-
-    private final OkHttpClient httpClient;
-    private final Gson gson;
-
-    public AIService() {
-        this.httpClient = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(60, TimeUnit.SECONDS)
-                .writeTimeout(30, TimeUnit.SECONDS)
-                .build();
-        this.gson = new Gson();
+    public AIService(ProviderRouter providerRouter,
+            @Qualifier("aiCallbackExecutor") Executor callbackExecutor,
+            HedgingPolicy hedgingPolicy) {
+        this.providerRouter = providerRouter;
+        this.callbackExecutor = callbackExecutor;
+        this.hedgingPolicy = hedgingPolicy;
     }
 
     /**
-     * Generate AI response with automatic fallback from Groq to Gemini
+     * Generate AI response with automatic fallback between providers
      */
     public String generateResponse(String prompt) {
+        return generateResponse("general", prompt);
+    }
+
+    private String generateResponse(String operation, String prompt) {
         try {
-            log.info("Attempting to generate response using Groq API");
-            return callGroqAPI(prompt);
-        } catch (Exception e) {
-            log.warn("Groq API failed, falling back to Gemini: {}", e.getMessage());
-            try {
-                log.info("Attempting to generate response using Gemini API");
-                return callGeminiAPI(prompt);
-            } catch (Exception geminiException) {
-                log.error("Both Groq and Gemini APIs failed", geminiException);
-                throw new AIServiceException("All AI services are currently unavailable", geminiException);
+            return generateResponseAsync(operation, prompt).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof AIServiceException aiServiceException) {
+                throw aiServiceException;
             }
+            throw new AIServiceException("All AI services are currently unavailable", rootCause(e));
         }
     }
 
     /**
-     * Call Gemini API
+     * Generate AI response without blocking the caller, with the same fallback
+     * between providers
      */
-    private String callGeminiAPI(String prompt) throws IOException {
-        JsonObject requestBody = new JsonObject();
-        JsonArray contents = new JsonArray();
-        JsonObject content = new JsonObject();
-        JsonArray parts = new JsonArray();
-        JsonObject part = new JsonObject();
-
-        part.addProperty("text", prompt);
-        parts.add(part);
-        content.add("parts", parts);
-        contents.add(content);
-        requestBody.add("contents", contents);
+    public CompletableFuture<String> generateResponseAsync(String prompt) {
+        return generateResponseAsync("general", prompt);
+    }
 
-        RequestBody body = RequestBody.create(
-                requestBody.toString(),
-                MediaType.parse("application/json"));
+    /**
+     * Call the best available provider and, if it has not answered within the
+     * operation's hedge delay, fire the next one in parallel. The first
+     * successful answer wins and the other call is cancelled. Operations
+     * without a hedge delay only fall back on failure. A failure starts
+     * the next provider immediately. Providers whose circuit breaker is open are
+     * skipped entirely.
+     */
+    private CompletableFuture<String> generateResponseAsync(String operation, String prompt) {
+        HedgedRequest hedged = new HedgedRequest(operation, prompt, providerRouter.route());
+        hedgingPolicy.recordRequest(operation);
+
+        if (!hedged.launchNext()) {
+            // Every breaker is open; the result has already failed fast
+            log.error("No AI provider is currently available for {}", operation);
+            return hedged.result;
+        }
 
-        Request request = new Request.Builder()
-                .url(geminiApiUrl + "?key=" + geminiApiKey)
-                .post(body)
-                .addHeader("Content-Type", "application/json")
-                .build();
+        if (hedgingPolicy.isEnabled(operation) && hedged.candidates.size() > 1) {
+            long delayMs = hedgingPolicy.hedgeDelayMs(operation, hedged.candidates.get(0).getName());
+            CompletableFuture.runAsync(() -> {
+                if (!hedged.result.isDone() && hedged.launchNext()) {
+                    hedgingPolicy.recordHedgeFired(operation);
+                }
+            }, CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS, callbackExecutor));
+        }
 
-        try (Response response = httpClient.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                throw new IOException("Gemini API request failed: " + response.code() + " - " + response.message());
+        // Cancelling the caller's future cancels whichever calls are in flight
+        hedged.result.whenComplete((result, e) -> {
+            if (hedged.result.isCancelled()) {
+                hedged.cancelAll(null);
             }
-
-            String responseBody = response.body().string();
-            JsonObject jsonResponse = gson.fromJson(responseBody, JsonObject.class);
-
-            return jsonResponse.getAsJsonArray("candidates")
-                    .get(0).getAsJsonObject()
-                    .getAsJsonObject("content")
-                    .getAsJsonArray("parts")
-                    .get(0).getAsJsonObject()
-                    .get("text").getAsString();
-        }
+        });
+        return hedged.result;
     }
 
     /**
-     * Call Groq API (OpenAI-compatible)
+     * State of one hedged request across its provider attempts
      */
-    private String callGroqAPI(String prompt) throws IOException {
-        JsonObject requestBody = new JsonObject();
-        requestBody.addProperty("model", groqModel);
+    private final class HedgedRequest {
+        private final String operation;
+        private final String prompt;
+        private final List<AIProvider> candidates;
+        private final long startNanos = System.nanoTime();
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private final List<Attempt> attempts = new CopyOnWriteArrayList<>();
+        private final AtomicInteger nextCandidate = new AtomicInteger(0);
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+
+        private HedgedRequest(String operation, String prompt, List<AIProvider> candidates) {
+            this.operation = operation;
+            this.prompt = prompt;
+            this.candidates = candidates;
+        }
 
-        JsonArray messages = new JsonArray();
-        JsonObject message = new JsonObject();
-        message.addProperty("role", "user");
-        message.addProperty("content", prompt);
-        messages.add(message);
+        /**
+         * Start the next candidate whose breaker grants a permit
+         */
+        private boolean launchNext() {
+            // Count the attempt before claiming a candidate so a concurrent
+            // failure can never observe zero attempts in flight
+            inFlight.incrementAndGet();
+            int index;
+            while ((index = nextCandidate.getAndIncrement()) < candidates.size()) {
+                AIProvider provider = candidates.get(index);
+                if (!providerRouter.breaker(provider).tryAcquirePermission()) {
+                    continue;
+                }
+
+                log.info("Attempting to generate {} response using {}", operation, provider.getName());
+                Attempt attempt = new Attempt(provider, index == 0);
+                attempts.add(attempt);
+                attempt.future = providerRouter.limiter(provider).execute(() -> provider.generate(prompt));
+                attempt.future.whenComplete((response, e) -> onAttemptComplete(attempt, response, e));
+                return true;
+            }
+            attemptFinished(null);
+            return false;
+        }
 
-        requestBody.add("messages", messages);
-        requestBody.addProperty("temperature", 0.7);
-        requestBody.addProperty("max_tokens", 4000); // Increased from 2000 to 4000
+        private void onAttemptComplete(Attempt attempt, String response, Throwable e) {
+            long latencyMs = attempt.elapsedMs();
+            CircuitBreaker breaker = providerRouter.breaker(attempt.provider);
 
-        RequestBody body = RequestBody.create(
-                requestBody.toString(),
-                MediaType.parse("application/json"));
+            if (e == null) {
+                breaker.onSuccess(latencyMs);
+                if (attempt.primary) {
+                    hedgingPolicy.recordPrimaryLatency(operation, attempt.provider.getName(), latencyMs);
+                }
+                if (result.complete(response)) {
+                    hedgingPolicy.recordWin(operation, attempt.provider.getName(), attempts.size() > 1,
+                            elapsedMs());
+                    cancelAll(attempt);
+                }
+            } else if (attempt.future.isCancelled()) {
+                breaker.onIgnored();
+                if (attempt.primary) {
+                    // Lost the race; the elapsed time is a lower bound on its latency
+                    hedgingPolicy.recordPrimaryLatency(operation, attempt.provider.getName(), latencyMs);
+                }
+            } else if (rootCause(e) instanceof RateLimitedException) {
+                // Throttling says nothing about the provider's health
+                breaker.onIgnored();
+                if (!result.isDone()) {
+                    log.warn("{} is rate limited, falling back to next provider: {}", attempt.provider.getName(),
+                            rootCause(e).getMessage());
+                    launchNext();
+                }
+            } else {
+                breaker.onFailure(latencyMs);
+                if (!result.isDone()) {
+                    log.warn("{} failed, falling back to next provider: {}", attempt.provider.getName(),
+                            rootCause(e).getMessage());
+                    launchNext();
+                }
+            }
+            attemptFinished(e);
+        }
 
-        Request request = new Request.Builder()
-                .url(groqApiUrl)
-                .post(body)
-                .addHeader("Content-Type", "application/json")
-                .addHeader("Authorization", "Bearer " + groqApiKey)
-                .build();
+        private void attemptFinished(Throwable e) {
+            if (inFlight.decrementAndGet() == 0 && !result.isDone()) {
+                log.error("All AI providers failed", e != null ? rootCause(e) : null);
+                result.completeExceptionally(e != null
+                        ? new AIServiceException("All AI services are currently unavailable", rootCause(e))
+                        : new AIServiceException("All AI services are currently unavailable"));
+            }
+        }
 
-        try (Response response = httpClient.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                String errorBody = response.body() != null ? response.body().string() : "No error body";
-                log.error("Groq API request failed: {} - {} - {}", response.code(), response.message(), errorBody);
-                throw new IOException("Groq API request failed: " + response.code() + " - " + response.message());
+        private void cancelAll(Attempt except) {
+            for (Attempt attempt : attempts) {
+                if (attempt != except && attempt.future != null && !attempt.future.isDone()) {
+                    attempt.future.cancel(true);
+                }
             }
+        }
+
+        private long elapsedMs() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+    }
 
-            String responseBody = response.body().string();
-            log.debug("Groq API response: {}", responseBody);
+    private static final class Attempt {
+        private final AIProvider provider;
+        private final boolean primary;
+        private final long startNanos = System.nanoTime();
+        private volatile CompletableFuture<String> future;
 
-            JsonObject jsonResponse = gson.fromJson(responseBody, JsonObject.class);
+        private Attempt(AIProvider provider, boolean primary) {
+            this.provider = provider;
+            this.primary = primary;
+        }
 
-            // Extract content from response
-            if (jsonResponse.has("choices") && jsonResponse.getAsJsonArray("choices").size() > 0) {
-                JsonObject firstChoice = jsonResponse.getAsJsonArray("choices").get(0).getAsJsonObject();
-                if (firstChoice.has("message")) {
-                    return firstChoice.getAsJsonObject("message").get("content").getAsString();
-                }
+        private long elapsedMs() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+    }
+
+    private Throwable rootCause(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    /**
+     * Stream AI response tokens from the best available provider. Falling back to
+     * the next provider is only possible while nothing has been emitted yet.
+     */
+    public String streamResponse(String prompt, Consumer<String> onToken) {
+        AtomicBoolean emitted = new AtomicBoolean(false);
+        Consumer<String> trackingConsumer = token -> {
+            emitted.set(true);
+            onToken.accept(token);
+        };
+
+        Exception lastFailure = null;
+        for (AIProvider provider : providerRouter.route()) {
+            CircuitBreaker breaker = providerRouter.breaker(provider);
+            if (!breaker.tryAcquirePermission()) {
+                continue;
+            }
+
+            AdaptiveLimiter.Permit permit;
+            try {
+                permit = providerRouter.limiter(provider).acquire().join();
+            } catch (CompletionException e) {
+                breaker.onIgnored();
+                log.warn("{} has no streaming capacity, falling back to next provider: {}", provider.getName(),
+                        rootCause(e).getMessage());
+                lastFailure = rootCause(e) instanceof Exception exception ? exception : e;
+                continue;
             }
 
-            throw new IOException("Unexpected Groq API response format");
-        } catch (IOException e) {
-            log.error("IOException in Groq API call: {}", e.getMessage(), e);
-            throw e;
+            long startNanos = System.nanoTime();
+            try {
+                log.info("Attempting to stream response using {}", provider.getName());
+                String response = provider.stream(prompt, trackingConsumer);
+                permit.release(AdaptiveLimiter.Outcome.SUCCESS);
+                breaker.onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                return response;
+            } catch (RateLimitedException e) {
+                permit.release(AdaptiveLimiter.Outcome.THROTTLED, e.getRetryAfter());
+                breaker.onIgnored();
+                log.warn("{} streaming is rate limited, falling back to next provider", provider.getName());
+                lastFailure = e;
+            } catch (Exception e) {
+                permit.release(AdaptiveLimiter.Outcome.FAILURE);
+                breaker.onFailure(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                if (emitted.get()) {
+                    log.error("{} stream failed after tokens were emitted", provider.getName(), e);
+                    throw new AIServiceException("AI stream was interrupted", e);
+                }
+                log.warn("{} streaming failed, falling back to next provider: {}", provider.getName(),
+                        e.getMessage());
+                lastFailure = e;
+            }
         }
+
+        log.error("All AI streaming providers failed", lastFailure);
+        throw new AIServiceException("All AI services are currently unavailable", lastFailure);
+    }
+
+    /**
+     * Circuit breaker state of every provider
+     */
+    public List<CircuitBreaker.Snapshot> getProviderStatus() {
+        return providerRouter.snapshots();
+    }
+
+    /**
+     * Adaptive concurrency limit, queue depth and rejections of every provider
+     */
+    public List<AdaptiveLimiter.Snapshot> getProviderLimits() {
+        return providerRouter.limiterSnapshots();
     }
 
     /**
      * Parse resume text and extract structured information
      */
     public String parseResume(String resumeText) {
-        String prompt = String.format("""
+        return generateResponse("resume-parse", buildResumeParsePrompt(resumeText));
+    }
+
+    /**
+     * Parse resume text and extract structured information without blocking the caller
+     */
+    public CompletableFuture<String> parseResumeAsync(String resumeText) {
+        return generateResponseAsync("resume-parse", buildResumeParsePrompt(resumeText));
+    }
+
+    private String buildResumeParsePrompt(String resumeText) {
+        return String.format("""
                 Analyze the following resume and extract information in JSON format with these fields:
                 - skills: array of technical and soft skills
                 - projects: array of objects with {name, description, technologies, duration}
@@ -177,15 +325,24 @@ public class AIService {
 
                 Return ONLY valid JSON, no additional text.
                 """, resumeText);
-
-        return generateResponse(prompt);
     }
 
     /**
      * Calculate ATS score and provide recommendations
      */
     public String analyzeResumeForATS(String resumeText, String targetRole) {
-        String prompt = String.format("""
+        return generateResponse("ats-analysis", buildAtsAnalysisPrompt(resumeText, targetRole));
+    }
+
+    /**
+     * Calculate ATS score and provide recommendations without blocking the caller
+     */
+    public CompletableFuture<String> analyzeResumeForATSAsync(String resumeText, String targetRole) {
+        return generateResponseAsync("ats-analysis", buildAtsAnalysisPrompt(resumeText, targetRole));
+    }
+
+    private String buildAtsAnalysisPrompt(String resumeText, String targetRole) {
+        return String.format("""
                 Analyze this resume for ATS (Applicant Tracking System) compatibility for a %s role.
 
                 Provide analysis in JSON format with:
@@ -201,15 +358,58 @@ public class AIService {
 
                 Return ONLY valid JSON, no additional text.
                 """, targetRole, resumeText);
+    }
 
-        return generateResponse(prompt);
+    /**
+     * Parse resume and analyze it for ATS in a single call returning the merged
+     * JSON of both analyses
+     */
+    public CompletableFuture<String> analyzeResumeCombinedAsync(String resumeText, String targetRole) {
+        return generateResponseAsync("resume-combined", buildCombinedResumePrompt(resumeText, targetRole));
+    }
+
+    private String buildCombinedResumePrompt(String resumeText, String targetRole) {
+        return String.format("""
+                Analyze the following resume, both extracting its content and assessing its ATS
+                (Applicant Tracking System) compatibility for a %s role.
+
+                Provide a single JSON object with these fields:
+                - skills: array of technical and soft skills
+                - projects: array of objects with {name, description, technologies, duration}
+                - education: array of objects with {institution, degree, field, duration, grade}
+                - achievements: array of notable achievements
+                - experience: array of objects with {company, position, duration, responsibilities}
+                - atsScore: number between 0-100
+                - skillGapAnalysis: object with {missingSkills, presentSkills, recommendations}
+                - weaknesses: array of resume weaknesses
+                - recommendations: array of improvement suggestions
+                - improvedBulletPoints: array of 5 improved bullet points
+                - atsKeywords: array of important keywords for ATS
+
+                Resume:
+                %s
+
+                Return ONLY valid JSON, no additional text.
+                """, targetRole, resumeText);
     }
 
     /**
      * Generate interview question based on role and difficulty
      */
     public String generateInterviewQuestion(String role, int difficultyLevel, String previousContext) {
-        String prompt = String.format("""
+        return generateResponse("question", buildRoleQuestionPrompt(role, difficultyLevel, previousContext));
+    }
+
+    /**
+     * Generate interview question based on role and difficulty without blocking the caller
+     */
+    public CompletableFuture<String> generateInterviewQuestionAsync(String role, int difficultyLevel,
+            String previousContext) {
+        return generateResponseAsync("question", buildRoleQuestionPrompt(role, difficultyLevel, previousContext));
+    }
+
+    private String buildRoleQuestionPrompt(String role, int difficultyLevel, String previousContext) {
+        return String.format("""
                 Generate a %s interview question for difficulty level %d (1=easy, 5=very hard).
 
                 Previous context: %s
@@ -220,15 +420,24 @@ public class AIService {
 
                 Return ONLY valid JSON, no additional text.
                 """, role, difficultyLevel, previousContext != null ? previousContext : "None");
-
-        return generateResponse(prompt);
     }
 
     /**
      * Evaluate interview answer
      */
     public String evaluateAnswer(String question, String answer, String role) {
-        String prompt = String.format("""
+        return generateResponse("evaluation", buildAnswerEvaluationPrompt(question, answer, role));
+    }
+
+    /**
+     * Evaluate interview answer without blocking the caller
+     */
+    public CompletableFuture<String> evaluateAnswerAsync(String question, String answer, String role) {
+        return generateResponseAsync("evaluation", buildAnswerEvaluationPrompt(question, answer, role));
+    }
+
+    private String buildAnswerEvaluationPrompt(String question, String answer, String role) {
+        return String.format("""
                 Evaluate this interview answer for a %s position.
 
                 Question: %s
@@ -247,15 +456,24 @@ public class AIService {
 
                 Return ONLY valid JSON, no additional text.
                 """, role, question, answer);
-
-        return generateResponse(prompt);
     }
 
     /**
      * Generate comprehensive interview feedback
      */
     public String generateInterviewFeedback(String role, String sessionData) {
-        String prompt = String.format("""
+        return generateResponse("feedback", buildInterviewFeedbackPrompt(role, sessionData));
+    }
+
+    /**
+     * Generate comprehensive interview feedback without blocking the caller
+     */
+    public CompletableFuture<String> generateInterviewFeedbackAsync(String role, String sessionData) {
+        return generateResponseAsync("feedback", buildInterviewFeedbackPrompt(role, sessionData));
+    }
+
+    private String buildInterviewFeedbackPrompt(String role, String sessionData) {
+        return String.format("""
                 Generate comprehensive interview feedback for a %s interview.
 
                 Session data: %s
@@ -268,8 +486,6 @@ public class AIService {
 
                 Return ONLY valid JSON, no additional text.
                 """, role, sessionData);
-
-        return generateResponse(prompt);
     }
 
     /**
@@ -282,7 +498,7 @@ public class AIService {
                         "Return ONLY a JSON array of company names, nothing else. " +
                         "Format: [\"Company1\", \"Company2\", ...]",
                 query);
-        return generateResponse(prompt);
+        return generateResponse("suggestion", prompt);
     }
 
     /**
@@ -295,7 +511,7 @@ public class AIService {
                         "Return ONLY a JSON array of role names, nothing else. " +
                         "Format: [\"Role1\", \"Role2\", ...]",
                 query, company != null ? company : "any company");
-        return generateResponse(prompt);
+        return generateResponse("suggestion", prompt);
     }
 
     /**
@@ -309,7 +525,7 @@ public class AIService {
                         "Format: [\"Position1\", \"Position2\", ...]",
                 role != null ? role : "any role",
                 company != null ? company : "any company");
-        return generateResponse(prompt);
+        return generateResponse("suggestion", prompt);
     }
 
     /**
@@ -329,13 +545,72 @@ public class AIService {
 
         // For the first question, always ask for introduction
         if (questionNumber == 1) {
-            return String.format(
-                    "Hello! Welcome to your interview for the %s position at %s. " +
-                            "Before we begin, I'd like to get to know you better. " +
-                            "Could you please introduce yourself and tell me a bit about your background?",
-                    position, company);
+            return buildIntroductionQuestion(company, position);
+        }
+
+        return generateResponse("question", buildInterviewQuestionPrompt(company, position, roundType, difficulty,
+                questionNumber, conversationHistory, resumeText));
+    }
+
+    /**
+     * Generate interview question with optional resume context without blocking
+     * the caller
+     */
+    public CompletableFuture<String> generateInterviewQuestionAsync(String company, String position,
+            String roundType, String difficulty, int questionNumber, String conversationHistory, String resumeText) {
+
+        if (questionNumber == 1) {
+            return CompletableFuture.completedFuture(buildIntroductionQuestion(company, position));
         }
 
+        return generateResponseAsync("question", buildInterviewQuestionPrompt(company, position, roundType, difficulty,
+                questionNumber, conversationHistory, resumeText));
+    }
+
+    /**
+     * Generate an interview question ahead of the turn it is for. Nobody is
+     * waiting on it yet, so it runs as its own operation, which is not hedged.
+     */
+    public CompletableFuture<String> speculateInterviewQuestionAsync(String company, String position,
+            String roundType, String difficulty, int questionNumber, String conversationHistory, String resumeText) {
+        return generateResponseAsync("question-speculative", buildInterviewQuestionPrompt(company, position,
+                roundType, difficulty, questionNumber, conversationHistory, resumeText));
+    }
+
+    /**
+     * Stream interview question tokens to the consumer as they arrive and return
+     * the assembled question
+     */
+    public String streamInterviewQuestion(String company, String position, String roundType,
+            String difficulty, int questionNumber, String conversationHistory, String resumeText,
+            Consumer<String> onToken) {
+
+        // The introduction is canned, so it is emitted as a single token
+        if (questionNumber == 1) {
+            String introduction = buildIntroductionQuestion(company, position);
+            onToken.accept(introduction);
+            return introduction;
+        }
+
+        return streamResponse(buildInterviewQuestionPrompt(company, position, roundType, difficulty,
+                questionNumber, conversationHistory, resumeText), onToken);
+    }
+
+    private String buildIntroductionQuestion(String company, String position) {
+        return String.format(
+                "Hello! Welcome to your interview for the %s position at %s. " +
+                        "Before we begin, I'd like to get to know you better. " +
+                        "Could you please introduce yourself and tell me a bit about your background?",
+                position, company);
+    }
+
+    /**
+     * The prompt used for a generated interview question, exposed so callers can
+     * estimate what a question costs
+     */
+    String buildInterviewQuestionPrompt(String company, String position, String roundType,
+            String difficulty, int questionNumber, String conversationHistory, String resumeText) {
+
         // Build comprehensive prompt with all context
         StringBuilder promptBuilder = new StringBuilder();
 
@@ -397,11 +672,8 @@ public class AIService {
         // Resume context (if provided)
         if (resumeText != null && !resumeText.trim().isEmpty()) {
             promptBuilder.append("CANDIDATE'S RESUME SUMMARY:\n");
-            // Limit resume text to first 1000 characters to avoid token limits
-            String resumeSummary = resumeText.length() > 1000
-                    ? resumeText.substring(0, 1000) + "..."
-                    : resumeText;
-            promptBuilder.append(resumeSummary);
+            // Already capped by interview.resume.digest.max.chars
+            promptBuilder.append(resumeText);
             promptBuilder.append("\n\n");
             promptBuilder.append("IMPORTANT: Use the resume information to:\n");
             promptBuilder.append("- Ask about specific projects, technologies, or experiences mentioned\n");
@@ -435,14 +707,26 @@ public class AIService {
         promptBuilder.append("- Make it conversational and natural\n");
         promptBuilder.append("- Ensure it's different from previous questions\n");
 
-        return generateResponse(promptBuilder.toString());
+        return promptBuilder.toString();
     }
 
     /**
      * Evaluate user's answer to an interview question
      */
     public String evaluateAnswer(String question, String answer, String position, String difficulty) {
-        String prompt = String.format(
+        return generateResponse("evaluation", buildAnswerEvaluationPrompt(question, answer, position, difficulty));
+    }
+
+    /**
+     * Evaluate user's answer to an interview question without blocking the caller
+     */
+    public CompletableFuture<String> evaluateAnswerAsync(String question, String answer, String position,
+            String difficulty) {
+        return generateResponseAsync("evaluation", buildAnswerEvaluationPrompt(question, answer, position, difficulty));
+    }
+
+    private String buildAnswerEvaluationPrompt(String question, String answer, String position, String difficulty) {
+        return String.format(
                 "You are evaluating an interview answer for the position: %s (Difficulty: %s)\n\n" +
                         "Question: %s\n\n" +
                         "Candidate's Answer: %s\n\n" +
@@ -459,7 +743,50 @@ public class AIService {
                         "- 0-2: Poor or irrelevant answer\n\n" +
                         "Return ONLY the JSON object, nothing else.",
                 position, difficulty, question, answer);
-        return generateResponse(prompt);
+    }
+
+    /**
+     * Evaluate several answers in one call. The response is a JSON array of
+     * scores and feedback keyed by question number.
+     */
+    public String evaluateAnswers(String position, String difficulty, List<AnswerToEvaluate> answers) {
+        return generateResponse("evaluation-batch", buildBatchEvaluationPrompt(position, difficulty, answers));
+    }
+
+    /**
+     * Evaluate several answers in one call without blocking the caller
+     */
+    public CompletableFuture<String> evaluateAnswersAsync(String position, String difficulty,
+            List<AnswerToEvaluate> answers) {
+        return generateResponseAsync("evaluation-batch", buildBatchEvaluationPrompt(position, difficulty, answers));
+    }
+
+    private String buildBatchEvaluationPrompt(String position, String difficulty, List<AnswerToEvaluate> answers) {
+        StringBuilder promptBuilder = new StringBuilder(String.format(
+                "You are evaluating interview answers for the position: %s (Difficulty: %s)\n\n",
+                position, difficulty));
+
+        for (AnswerToEvaluate answer : answers) {
+            promptBuilder.append(String.format("Question #%d: %s\nCandidate's Answer: %s\n\n",
+                    answer.questionNumber(), answer.question(), answer.answer()));
+        }
+
+        promptBuilder.append("Provide a JSON array with one evaluation per question above:\n" +
+                "[\n" +
+                "  {\n" +
+                "    \"questionNumber\": <question number>,\n" +
+                "    \"score\": <number 0-10>,\n" +
+                "    \"feedback\": \"<brief constructive feedback>\"\n" +
+                "  }\n" +
+                "]\n\n" +
+                "Scoring criteria:\n" +
+                "- 9-10: Excellent, comprehensive answer\n" +
+                "- 7-8: Good answer with minor gaps\n" +
+                "- 5-6: Acceptable but needs improvement\n" +
+                "- 3-4: Weak answer, missing key points\n" +
+                "- 0-2: Poor or irrelevant answer\n\n" +
+                "Return ONLY the JSON array, nothing else.");
+        return promptBuilder.toString();
     }
 
     /**
@@ -467,7 +794,22 @@ public class AIService {
      */
     public String generateFinalReport(String company, String position, String roundType,
             String difficulty, String fullTranscript, int questionCount) {
-        String prompt = String.format(
+        return generateResponse("final-report", buildFinalReportPrompt(company, position, roundType, difficulty,
+                fullTranscript, questionCount));
+    }
+
+    /**
+     * Generate comprehensive final interview report without blocking the caller
+     */
+    public CompletableFuture<String> generateFinalReportAsync(String company, String position, String roundType,
+            String difficulty, String fullTranscript, int questionCount) {
+        return generateResponseAsync("final-report", buildFinalReportPrompt(company, position, roundType,
+                difficulty, fullTranscript, questionCount));
+    }
+
+    private String buildFinalReportPrompt(String company, String position, String roundType,
+            String difficulty, String fullTranscript, int questionCount) {
+        return String.format(
                 "You are generating a final evaluation report for an interview.\n\n" +
                         "Interview Details:\n" +
                         "- Company: %s\n" +
@@ -491,6 +833,5 @@ public class AIService {
                         "- REJECTED: Overall score < 50\n\n" +
                         "Return ONLY the JSON object, nothing else.",
                 company, position, roundType, difficulty, questionCount, fullTranscript);
-        return generateResponse(prompt);
     }
 }
@@ -0,0 +1,201 @@
+package com.hireready.service;
+
+import com.hireready.model.InterviewExchange;
+import com.hireready.model.InterviewSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the conversation history sent with each interview question prompt
+ * within a fixed token budget per round type. The last few turns are kept
+ * verbatim; older turns are folded into a compact running summary stored on
+ * the session, so each turn only folds the exchanges added since the
+ * previous one.
+ */
+@Component
+public class ConversationHistoryManager {
+
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final int SUMMARY_QUESTION_WORDS = 20;
+    private static final int SUMMARY_ANSWER_WORDS = 20;
+    private static final int TOPIC_WORDS = 10;
+    private static final String OMITTED_PREFIX = "[";
+
+    private final Environment environment;
+
+    @Value("${interview.history.budget.tokens:800}")
+    private int defaultBudgetTokens;
+
+    @Value("${interview.history.summary.tokens:250}")
+    private int summaryTokens;
+
+    @Value("${interview.history.verbatim.turns:3}")
+    private int verbatimTurns;
+
+    public ConversationHistoryManager(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Build the prompt history from a transcript already in memory, updating
+     * the session's running summary. Exchanges already folded into the summary
+     * are skipped. The caller is responsible for saving the session.
+     */
+    public String buildHistory(InterviewSession session, String roundType, List<InterviewExchange> transcript) {
+        int budget = budgetFor(roundType);
+        int summaryBudget = Math.min(summaryTokens, budget / 3);
+        int summarizedThrough = summarizedThrough(session);
+
+        TreeMap<Integer, Turn> turns = new TreeMap<>();
+        for (InterviewExchange exchange : transcript) {
+            if (exchange.getQuestionNumber() == null || exchange.getQuestionNumber() <= summarizedThrough) {
+                continue;
+            }
+            Turn turn = turns.computeIfAbsent(exchange.getQuestionNumber(), Turn::new);
+            if ("question".equals(exchange.getType())) {
+                turn.question = exchange.getText();
+            } else {
+                turn.answer = exchange.getText();
+            }
+        }
+
+        // Fold everything outside the verbatim window into the summary
+        List<String> summary = summaryLines(session.getConversationSummary());
+        while (turns.size() > verbatimTurns) {
+            fold(session, summary, turns.pollFirstEntry().getValue());
+        }
+        compact(summary, summaryBudget);
+
+        // Then fold the oldest verbatim turns until the rest fits the budget
+        int verbatimBudget = budget - estimateTokens(String.join("\n", summary));
+        while (turns.size() > 1 && estimateTokens(render(turns.values())) > verbatimBudget) {
+            fold(session, summary, turns.pollFirstEntry().getValue());
+            compact(summary, summaryBudget);
+            verbatimBudget = budget - estimateTokens(String.join("\n", summary));
+        }
+        session.setConversationSummary(summary.isEmpty() ? null : String.join("\n", summary));
+
+        String recent = truncate(render(turns.values()), verbatimBudget);
+        if (summary.isEmpty()) {
+            return recent;
+        }
+        return "Summary of earlier questions:\n" + String.join("\n", summary)
+                + (recent.isEmpty() ? "" : "\n\nMost recent exchanges:\n" + recent);
+    }
+
+    /**
+     * Rough local token estimate, close enough for budgeting English prompts
+     */
+    public static int estimateTokens(String text) {
+        return text == null ? 0 : (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+    }
+
+    private static int summarizedThrough(InterviewSession session) {
+        return session.getSummarizedThroughQuestion() != null ? session.getSummarizedThroughQuestion() : 0;
+    }
+
+    private int budgetFor(String roundType) {
+        if (roundType == null) {
+            return defaultBudgetTokens;
+        }
+        return environment.getProperty("interview.history.budget.tokens." + roundType.toUpperCase(Locale.ROOT),
+                Integer.class, defaultBudgetTokens);
+    }
+
+    private void fold(InterviewSession session, List<String> summary, Turn turn) {
+        StringBuilder line = new StringBuilder("Q").append(turn.number).append(": ")
+                .append(firstWords(turn.question, SUMMARY_QUESTION_WORDS));
+        if (turn.answer != null) {
+            line.append(" | A: ").append(firstWords(turn.answer, SUMMARY_ANSWER_WORDS));
+        }
+        summary.add(line.toString());
+        session.setSummarizedThroughQuestion(Math.max(turn.number,
+                session.getSummarizedThroughQuestion() != null ? session.getSummarizedThroughQuestion() : 0));
+    }
+
+    /**
+     * Shrink the summary to its budget: first drop answers from the oldest
+     * lines, then drop the oldest lines altogether
+     */
+    private void compact(List<String> summary, int budget) {
+        for (int i = 0; i < summary.size() && estimateTokens(String.join("\n", summary)) > budget; i++) {
+            String line = summary.get(i);
+            if (line.startsWith(OMITTED_PREFIX)) {
+                continue;
+            }
+            int answerAt = line.indexOf(" | A: ");
+            String question = answerAt >= 0 ? line.substring(0, answerAt) : line;
+            summary.set(i, firstWords(question, TOPIC_WORDS + 1));
+        }
+
+        int omitted = 0;
+        if (!summary.isEmpty() && summary.get(0).startsWith(OMITTED_PREFIX)) {
+            omitted = Integer.parseInt(summary.remove(0).replaceAll("\\D", ""));
+        }
+        while (summary.size() > 1 && estimateTokens(String.join("\n", summary)) > budget) {
+            summary.remove(0);
+            omitted++;
+        }
+        if (omitted > 0) {
+            summary.add(0, OMITTED_PREFIX + omitted + " earlier questions omitted]");
+        }
+    }
+
+    private static List<String> summaryLines(String summary) {
+        if (summary == null || summary.isBlank()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(summary.split("\n")));
+    }
+
+    private static String render(Iterable<Turn> turns) {
+        List<String> lines = new ArrayList<>();
+        for (Turn turn : turns) {
+            if (turn.question != null) {
+                lines.add("Q: " + turn.question);
+            }
+            if (turn.answer != null) {
+                lines.add("A: " + turn.answer);
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    private static String truncate(String text, int tokens) {
+        int maxChars = Math.max(0, tokens) * CHARS_PER_TOKEN;
+        if (text.length() <= maxChars) {
+            return text;
+        }
+        // Keep the end: the latest answer matters most for the next question
+        return "..." + text.substring(text.length() - maxChars);
+    }
+
+    private static String firstWords(String text, int count) {
+        if (text == null) {
+            return "";
+        }
+        String[] words = text.trim().split("\\s+");
+        if (words.length <= count) {
+            return String.join(" ", words);
+        }
+        return Arrays.stream(words).limit(count).collect(Collectors.joining(" ")) + "...";
+    }
+
+    private static class Turn {
+        private final int number;
+        private String question;
+        private String answer;
+
+        Turn(Integer number) {
+            this.number = number;
+        }
+    }
+}
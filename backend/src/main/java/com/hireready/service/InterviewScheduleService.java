@@ -1,28 +1,48 @@
 package com.hireready.service;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
 import com.hireready.model.InterviewSchedule;
+import com.hireready.model.Resume;
 import com.hireready.repository.InterviewScheduleRepository;
+import com.hireready.repository.ResumeRepository;
+import com.hireready.service.ai.LlmJsonCodec;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 public class InterviewScheduleService {
 
+    private static final int SUGGESTION_LIMIT = 10;
+
     private final InterviewScheduleRepository scheduleRepository;
     private final AIService aiService;
-    private final Gson gson;
-
-    public InterviewScheduleService(InterviewScheduleRepository scheduleRepository, AIService aiService) {
+    private final SuggestionCache suggestionCache;
+    private final SuggestionIndex suggestionIndex;
+    private final LlmJsonCodec llmJsonCodec;
+    private final ResumeRepository resumeRepository;
+    private final ResumeDigester resumeDigester;
+
+    @Value("${suggestion.index.min.hits:5}")
+    private int minLocalHits;
+
+    public InterviewScheduleService(InterviewScheduleRepository scheduleRepository, AIService aiService,
+            SuggestionCache suggestionCache, SuggestionIndex suggestionIndex, LlmJsonCodec llmJsonCodec,
+            ResumeRepository resumeRepository, ResumeDigester resumeDigester) {
         this.scheduleRepository = scheduleRepository;
         this.aiService = aiService;
-        this.gson = new Gson();
+        this.suggestionCache = suggestionCache;
+        this.suggestionIndex = suggestionIndex;
+        this.llmJsonCodec = llmJsonCodec;
+        this.resumeRepository = resumeRepository;
+        this.resumeDigester = resumeDigester;
     }
 
     /**
@@ -30,8 +50,8 @@ public class InterviewScheduleService {
      */
     public List<String> suggestCompanies(String query) {
         try {
-            String response = aiService.suggestCompanies(query);
-            List<String> suggestions = parseStringList(response);
+            List<String> suggestions = suggest(SuggestionCache.COMPANIES, query, null,
+                    () -> aiService.suggestCompanies(query));
             // Return default suggestions if parsing failed or empty
             if (suggestions.isEmpty()) {
                 return List.of("Google", "Microsoft", "Amazon", "Apple", "Meta");
@@ -49,8 +69,8 @@ public class InterviewScheduleService {
      */
     public List<String> suggestRoles(String query, String company) {
         try {
-            String response = aiService.suggestRoles(query, company);
-            List<String> suggestions = parseStringList(response);
+            List<String> suggestions = suggest(SuggestionCache.ROLES, query, company,
+                    () -> aiService.suggestRoles(query, company));
             // Return default suggestions if parsing failed or empty
             if (suggestions.isEmpty()) {
                 return List.of("Software Engineer", "Data Scientist", "Product Manager", "DevOps Engineer",
@@ -68,8 +88,8 @@ public class InterviewScheduleService {
      */
     public List<String> suggestPositions(String role, String company) {
         try {
-            String response = aiService.suggestPositions(role, company);
-            List<String> suggestions = parseStringList(response);
+            List<String> suggestions = suggest(SuggestionCache.POSITIONS, role, company,
+                    () -> aiService.suggestPositions(role, company));
             // Return default suggestions if parsing failed or empty
             if (suggestions.isEmpty()) {
                 return List.of("Junior " + role, "Mid-Level " + role, "Senior " + role, "Lead " + role);
@@ -81,11 +101,55 @@ public class InterviewScheduleService {
         }
     }
 
+    /**
+     * Answer from the local index, falling through to the (cached) AI call
+     * only when the index has too few matches
+     */
+    private List<String> suggest(String type, String query, String context, Supplier<String> aiCall) {
+        List<String> local = suggestionIndex.lookup(type, query, SUGGESTION_LIMIT);
+        if (local.size() >= minLocalHits) {
+            return local;
+        }
+
+        List<String> remote;
+        try {
+            remote = suggestionCache.get(type, query, context, () -> {
+                List<String> parsed = parseStringList(aiCall.get());
+                suggestionIndex.addSuggestions(type, parsed);
+                return parsed;
+            });
+        } catch (RuntimeException e) {
+            if (local.isEmpty()) {
+                throw e;
+            }
+            log.warn("AI {} suggestions failed, using {} local matches: {}", type, local.size(), e.getMessage());
+            return local;
+        }
+
+        Map<String, String> merged = new LinkedHashMap<>();
+        for (String value : local) {
+            merged.putIfAbsent(SuggestionCache.normalize(value), value);
+        }
+        for (String value : remote) {
+            merged.putIfAbsent(SuggestionCache.normalize(value), value);
+        }
+        return merged.values().stream().limit(SUGGESTION_LIMIT).toList();
+    }
+
     /**
      * Schedule a new interview
      */
     public InterviewSchedule scheduleInterview(String userId, String company, String role, String position,
             String roundType, String difficulty, LocalDateTime scheduledTime) {
+        return scheduleInterview(userId, company, role, position, roundType, difficulty, scheduledTime, null);
+    }
+
+    /**
+     * Schedule a new interview, optionally personalised with one of the user's
+     * resumes
+     */
+    public InterviewSchedule scheduleInterview(String userId, String company, String role, String position,
+            String roundType, String difficulty, LocalDateTime scheduledTime, String resumeId) {
         InterviewSchedule schedule = new InterviewSchedule();
         schedule.setUserId(userId);
         schedule.setCompany(company);
@@ -97,8 +161,27 @@ public class InterviewScheduleService {
         schedule.setStatus("SCHEDULED");
         schedule.setCreatedAt(LocalDateTime.now());
         schedule.setUpdatedAt(LocalDateTime.now());
+        if (resumeId != null && !resumeId.isBlank()) {
+            attachResume(schedule, resumeId);
+        }
+
+        InterviewSchedule saved = scheduleRepository.save(schedule);
+        suggestionIndex.addSchedule(saved);
+        return saved;
+    }
 
-        return scheduleRepository.save(schedule);
+    /**
+     * Attach a resume to the schedule, digesting it once for the question
+     * prompts
+     */
+    private void attachResume(InterviewSchedule schedule, String resumeId) {
+        Resume resume = resumeRepository.findById(resumeId)
+                .filter(found -> schedule.getUserId().equals(found.getUserId()))
+                .orElseThrow(() -> new RuntimeException("Resume not found"));
+
+        schedule.setResumeId(resume.getId());
+        schedule.setResumeText(resume.getOriginalText());
+        schedule.setResumeDigest(resumeDigester.digest(resume));
     }
 
     /**
@@ -144,75 +227,13 @@ public class InterviewScheduleService {
         return now.isAfter(schedule.getScheduledTime().minusMinutes(5));
     }
 
-    /**
-     * Clean JSON response by removing markdown code blocks
-     */
-    private String cleanJsonResponse(String response) {
-        if (response == null) {
-            return "[]";
-        }
-        String cleaned = response.trim();
-        if (cleaned.startsWith("```json")) {
-            cleaned = cleaned.substring(7);
-        } else if (cleaned.startsWith("```")) {
-            cleaned = cleaned.substring(3);
-        }
-        if (cleaned.endsWith("```")) {
-            cleaned = cleaned.substring(0, cleaned.length() - 3);
-        }
-        return cleaned.trim();
-    }
-
     /**
      * Parse AI response to List<String>, handling both string arrays and object
      * arrays
      */
     private List<String> parseStringList(String response) {
         try {
-            String cleanedResponse = cleanJsonResponse(response);
-
-            // Try parsing as JsonArray first to handle both cases
-            JsonArray jsonArray = gson.fromJson(cleanedResponse, JsonArray.class);
-            List<String> result = new java.util.ArrayList<>();
-
-            for (int i = 0; i < jsonArray.size(); i++) {
-                if (jsonArray.get(i).isJsonPrimitive()) {
-                    // It's a string - add directly
-                    result.add(jsonArray.get(i).getAsString());
-                } else if (jsonArray.get(i).isJsonObject()) {
-                    // It's an object - try to extract a string value
-                    // Common patterns: {"name": "..."}, {"value": "..."}, {"company": "..."}
-                    var obj = jsonArray.get(i).getAsJsonObject();
-                    String value = null;
-
-                    // Try common field names
-                    if (obj.has("name")) {
-                        value = obj.get("name").getAsString();
-                    } else if (obj.has("value")) {
-                        value = obj.get("value").getAsString();
-                    } else if (obj.has("company")) {
-                        value = obj.get("company").getAsString();
-                    } else if (obj.has("role")) {
-                        value = obj.get("role").getAsString();
-                    } else if (obj.has("position")) {
-                        value = obj.get("position").getAsString();
-                    } else {
-                        // If no known field, take the first string value found
-                        for (String key : obj.keySet()) {
-                            if (obj.get(key).isJsonPrimitive()) {
-                                value = obj.get(key).getAsString();
-                                break;
-                            }
-                        }
-                    }
-
-                    if (value != null) {
-                        result.add(value);
-                    }
-                }
-            }
-
-            return result;
+            return llmJsonCodec.decode(response, LlmJsonCodec.STRING_LIST);
         } catch (Exception e) {
             log.error("Failed to parse AI response as string list: {}", response, e);
             return new java.util.ArrayList<>();
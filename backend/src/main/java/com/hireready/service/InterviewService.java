@@ -1,11 +1,15 @@
 package com.hireready.service;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
+import com.hireready.dto.ai.AnswerEvaluationResult;
+import com.hireready.dto.ai.InterviewFeedbackResult;
+import com.hireready.dto.ai.InterviewQuestionResult;
+import com.hireready.exception.AIServiceException;
 import com.hireready.model.InterviewSession;
 import com.hireready.model.User;
 import com.hireready.repository.InterviewSessionRepository;
 import com.hireready.repository.UserRepository;
+import com.hireready.service.ai.LlmJsonCodec;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -21,14 +26,17 @@ public class InterviewService {
     private final InterviewSessionRepository sessionRepository;
     private final UserRepository userRepository;
     private final AIService aiService;
+    private final LlmJsonCodec llmJsonCodec;
     private final Gson gson;
 
     public InterviewService(InterviewSessionRepository sessionRepository,
             UserRepository userRepository,
-            AIService aiService) {
+            AIService aiService,
+            LlmJsonCodec llmJsonCodec) {
         this.sessionRepository = sessionRepository;
         this.userRepository = userRepository;
         this.aiService = aiService;
+        this.llmJsonCodec = llmJsonCodec;
         this.gson = new Gson();
     }
 
@@ -60,10 +68,9 @@ public class InterviewService {
 
         // Generate first question
         String questionJson = aiService.generateInterviewQuestion(role.toString(), 1, null);
-        JsonObject questionData = gson.fromJson(questionJson, JsonObject.class);
 
         InterviewSession.QuestionAnswer firstQA = new InterviewSession.QuestionAnswer();
-        firstQA.setQuestion(questionData.get("question").getAsString());
+        firstQA.setQuestion(parseQuestion(questionJson));
         firstQA.setDifficultyLevel(1);
 
         session.getQuestionAnswers().add(firstQA);
@@ -78,13 +85,7 @@ public class InterviewService {
     public InterviewSession submitAnswer(String sessionId, String answer) {
         log.info("Processing answer for session: {}", sessionId);
 
-        InterviewSession session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new RuntimeException("Interview session not found"));
-
-        if (session.getStatus() != InterviewSession.SessionStatus.IN_PROGRESS) {
-            throw new RuntimeException("Interview session is not active");
-        }
-
+        InterviewSession session = getActiveSessionOrThrow(sessionId);
         List<InterviewSession.QuestionAnswer> qaList = session.getQuestionAnswers();
         InterviewSession.QuestionAnswer currentQA = qaList.get(qaList.size() - 1);
 
@@ -93,27 +94,92 @@ public class InterviewService {
                 currentQA.getQuestion(),
                 answer,
                 session.getRole().toString());
-        JsonObject evaluation = gson.fromJson(evaluationJson, JsonObject.class);
+        int nextDifficulty = applyEvaluation(session, currentQA, answer, evaluationJson);
+
+        // Generate next question if interview continues
+        if (qaList.size() < 10) { // Limit to 10 questions per session
+            String context = buildInterviewContext(session);
+            String nextQuestionJson = aiService.generateInterviewQuestion(
+                    session.getRole().toString(),
+                    nextDifficulty,
+                    context);
+            appendNextQuestion(session, nextQuestionJson, nextDifficulty);
+        } else {
+            // Complete the interview
+            completeInterview(session);
+        }
+
+        return sessionRepository.save(session);
+    }
+
+    /**
+     * Submit answer and get next question without holding the calling thread
+     * while the answer is evaluated and the next question generated
+     */
+    public CompletableFuture<InterviewSession> submitAnswerAsync(String sessionId, String answer) {
+        log.info("Processing answer asynchronously for session: {}", sessionId);
+
+        InterviewSession session = getActiveSessionOrThrow(sessionId);
+        List<InterviewSession.QuestionAnswer> qaList = session.getQuestionAnswers();
+        InterviewSession.QuestionAnswer currentQA = qaList.get(qaList.size() - 1);
+
+        return aiService.evaluateAnswerAsync(currentQA.getQuestion(), answer, session.getRole().toString())
+                .thenCompose(evaluationJson -> {
+                    int nextDifficulty = applyEvaluation(session, currentQA, answer, evaluationJson);
+
+                    if (qaList.size() >= 10) {
+                        return completeInterviewAsync(session);
+                    }
+
+                    String context = buildInterviewContext(session);
+                    return aiService.generateInterviewQuestionAsync(
+                                    session.getRole().toString(),
+                                    nextDifficulty,
+                                    context)
+                            .thenApply(nextQuestionJson -> {
+                                appendNextQuestion(session, nextQuestionJson, nextDifficulty);
+                                return sessionRepository.save(session);
+                            });
+                });
+    }
+
+    private InterviewSession getActiveSessionOrThrow(String sessionId) {
+        InterviewSession session = sessionRepository.findById(sessionId)
+                .orElseThrow(() -> new RuntimeException("Interview session not found"));
+
+        if (session.getStatus() != InterviewSession.SessionStatus.IN_PROGRESS) {
+            throw new RuntimeException("Interview session is not active");
+        }
+        return session;
+    }
+
+    /**
+     * Apply the AI evaluation to the current answer and return the difficulty
+     * level for the next question
+     */
+    private int applyEvaluation(InterviewSession session, InterviewSession.QuestionAnswer currentQA,
+            String answer, String evaluationJson) {
+        AnswerEvaluationResult evaluation = llmJsonCodec.decode(evaluationJson, AnswerEvaluationResult.class);
 
         // Update current Q&A with answer and evaluation
         currentQA.setAnswer(answer);
-        currentQA.setScore(evaluation.get("score").getAsDouble());
-        currentQA.setFeedback(evaluation.get("feedback").getAsString());
+        currentQA.setScore(evaluation.score());
+        currentQA.setFeedback(evaluation.feedback());
         currentQA.setAnsweredAt(LocalDateTime.now());
 
         // Set sentiment analysis
         InterviewSession.SentimentAnalysis sentiment = new InterviewSession.SentimentAnalysis();
-        sentiment.setOverallSentiment(evaluation.get("sentiment").getAsString());
-        sentiment.setConfidenceLevel(evaluation.get("confidenceLevel").getAsDouble());
-        sentiment.setFillerWordCount(evaluation.get("fillerWordCount").getAsInt());
-        sentiment.setDetectedEmotions(gson.fromJson(evaluation.get("detectedEmotions"), List.class));
+        sentiment.setOverallSentiment(evaluation.sentiment());
+        sentiment.setConfidenceLevel(evaluation.confidenceLevel());
+        sentiment.setFillerWordCount(evaluation.fillerWordCount());
+        sentiment.setDetectedEmotions(evaluation.detectedEmotions());
         currentQA.setSentiment(sentiment);
 
         // Update session scores (running average)
         updateSessionScores(session, evaluation);
 
         // Determine next difficulty level
-        boolean shouldIncreaseDifficulty = evaluation.get("shouldIncreaseDifficulty").getAsBoolean();
+        boolean shouldIncreaseDifficulty = evaluation.shouldIncreaseDifficulty();
         int nextDifficulty = session.getCurrentDifficultyLevel();
         if (shouldIncreaseDifficulty && nextDifficulty < 5) {
             nextDifficulty++;
@@ -121,27 +187,23 @@ public class InterviewService {
             nextDifficulty--;
         }
         session.setCurrentDifficultyLevel(nextDifficulty);
+        return nextDifficulty;
+    }
 
-        // Generate next question if interview continues
-        if (qaList.size() < 10) { // Limit to 10 questions per session
-            String context = buildInterviewContext(session);
-            String nextQuestionJson = aiService.generateInterviewQuestion(
-                    session.getRole().toString(),
-                    nextDifficulty,
-                    context);
-            JsonObject nextQuestionData = gson.fromJson(nextQuestionJson, JsonObject.class);
+    private void appendNextQuestion(InterviewSession session, String nextQuestionJson, int nextDifficulty) {
+        InterviewSession.QuestionAnswer nextQA = new InterviewSession.QuestionAnswer();
+        nextQA.setQuestion(parseQuestion(nextQuestionJson));
+        nextQA.setDifficultyLevel(nextDifficulty);
 
-            InterviewSession.QuestionAnswer nextQA = new InterviewSession.QuestionAnswer();
-            nextQA.setQuestion(nextQuestionData.get("question").getAsString());
-            nextQA.setDifficultyLevel(nextDifficulty);
+        session.getQuestionAnswers().add(nextQA);
+    }
 
-            qaList.add(nextQA);
-        } else {
-            // Complete the interview
-            completeInterview(session);
+    private String parseQuestion(String questionJson) {
+        InterviewQuestionResult result = llmJsonCodec.decode(questionJson, InterviewQuestionResult.class);
+        if (result.question().isEmpty()) {
+            throw new AIServiceException("AI response did not contain an interview question");
         }
-
-        return sessionRepository.save(session);
+        return result.question();
     }
 
     /**
@@ -165,12 +227,24 @@ public class InterviewService {
         String feedbackJson = aiService.generateInterviewFeedback(
                 session.getRole().toString(),
                 sessionData);
-        JsonObject feedback = gson.fromJson(feedbackJson, JsonObject.class);
+        return applyFeedback(session, feedbackJson);
+    }
+
+    private CompletableFuture<InterviewSession> completeInterviewAsync(InterviewSession session) {
+        log.info("Completing interview session asynchronously: {}", session.getId());
+
+        String sessionData = gson.toJson(session.getQuestionAnswers());
+        return aiService.generateInterviewFeedbackAsync(session.getRole().toString(), sessionData)
+                .thenApply(feedbackJson -> applyFeedback(session, feedbackJson));
+    }
+
+    private InterviewSession applyFeedback(InterviewSession session, String feedbackJson) {
+        InterviewFeedbackResult feedback = llmJsonCodec.decode(feedbackJson, InterviewFeedbackResult.class);
 
-        session.setOverallReadiness(feedback.get("overallReadiness").getAsDouble());
-        session.setDetailedFeedback(feedback.get("detailedFeedback").getAsString());
-        session.setStrengths(gson.fromJson(feedback.get("strengths"), List.class));
-        session.setImprovements(gson.fromJson(feedback.get("improvements"), List.class));
+        session.setOverallReadiness(feedback.overallReadiness());
+        session.setDetailedFeedback(feedback.detailedFeedback());
+        session.setStrengths(feedback.strengths());
+        session.setImprovements(feedback.improvements());
         session.setStatus(InterviewSession.SessionStatus.COMPLETED);
         session.setCompletedAt(LocalDateTime.now());
 
@@ -186,7 +260,7 @@ public class InterviewService {
     /**
      * Update session scores based on latest answer evaluation
      */
-    private void updateSessionScores(InterviewSession session, JsonObject evaluation) {
+    private void updateSessionScores(InterviewSession session, AnswerEvaluationResult evaluation) {
         List<InterviewSession.QuestionAnswer> qaList = session.getQuestionAnswers();
         int answeredCount = (int) qaList.stream().filter(qa -> qa.getAnswer() != null).count();
 
@@ -200,7 +274,7 @@ public class InterviewService {
                 .sum();
         session.setTechnicalScore(technicalSum / answeredCount);
 
-        double communicationScore = evaluation.get("communicationClarity").getAsDouble();
+        double communicationScore = evaluation.communicationClarity();
         session.setCommunicationScore(
                 (session.getCommunicationScore() * (answeredCount - 1) + communicationScore) / answeredCount);
 
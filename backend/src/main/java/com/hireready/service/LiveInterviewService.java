@@ -1,22 +1,41 @@
 package com.hireready.service;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
+import com.hireready.dto.ai.AnswerEvaluationResult;
+import com.hireready.dto.ai.AnswerScoreResult;
+import com.hireready.dto.ai.AnswerToEvaluate;
+import com.hireready.dto.ai.FinalReportResult;
 import com.hireready.model.InterviewEvaluation;
 import com.hireready.model.InterviewExchange;
 import com.hireready.model.InterviewSchedule;
 import com.hireready.model.InterviewSession;
 import com.hireready.repository.InterviewEvaluationRepository;
-import com.hireready.repository.InterviewExchangeRepository;
 import com.hireready.repository.InterviewScheduleRepository;
 import com.hireready.repository.InterviewSessionRepository;
+import com.hireready.service.LiveSessionStore.LiveSession;
+import com.hireready.service.ai.LlmJsonCodec;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,21 +45,41 @@ public class LiveInterviewService {
     private final AIService aiService;
     private final InterviewSessionRepository sessionRepository;
     private final InterviewScheduleRepository scheduleRepository;
-    private final InterviewExchangeRepository exchangeRepository;
     private final InterviewEvaluationRepository evaluationRepository;
-    private final Gson gson;
+    private final ConversationHistoryManager historyManager;
+    private final LlmJsonCodec llmJsonCodec;
+    private final QuestionSpeculator questionSpeculator;
+    private final ResumeDigester resumeDigester;
+    private final LiveSessionStore liveSessionStore;
+    private final MeterRegistry meterRegistry;
+    private final Executor evaluationExecutor;
+    private final Map<String, PendingEvaluation> pendingEvaluations = new ConcurrentHashMap<>();
+
+    @Value("${interview.evaluation.batch.enabled:true}")
+    private boolean batchEvaluationEnabled;
 
     public LiveInterviewService(AIService aiService,
             InterviewSessionRepository sessionRepository,
             InterviewScheduleRepository scheduleRepository,
-            InterviewExchangeRepository exchangeRepository,
-            InterviewEvaluationRepository evaluationRepository) {
+            InterviewEvaluationRepository evaluationRepository,
+            ConversationHistoryManager historyManager,
+            LlmJsonCodec llmJsonCodec,
+            QuestionSpeculator questionSpeculator,
+            ResumeDigester resumeDigester,
+            LiveSessionStore liveSessionStore,
+            MeterRegistry meterRegistry,
+            @Qualifier("evaluationExecutor") Executor evaluationExecutor) {
         this.aiService = aiService;
         this.sessionRepository = sessionRepository;
         this.scheduleRepository = scheduleRepository;
-        this.exchangeRepository = exchangeRepository;
         this.evaluationRepository = evaluationRepository;
-        this.gson = new Gson();
+        this.historyManager = historyManager;
+        this.llmJsonCodec = llmJsonCodec;
+        this.questionSpeculator = questionSpeculator;
+        this.resumeDigester = resumeDigester;
+        this.liveSessionStore = liveSessionStore;
+        this.meterRegistry = meterRegistry;
+        this.evaluationExecutor = evaluationExecutor;
     }
 
     /**
@@ -71,6 +110,7 @@ public class LiveInterviewService {
         schedule.setStatus("IN_PROGRESS");
         schedule.setSessionId(session.getId());
         scheduleRepository.save(schedule);
+        liveSessionStore.open(session, schedule);
 
         log.info("Started live interview session: {} for schedule: {}", session.getId(), scheduleId);
         return session;
@@ -94,120 +134,445 @@ public class LiveInterviewService {
      * Generate next interview question based on context
      */
     public String getNextQuestion(String sessionId, String previousAnswer) {
-        InterviewSession session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new RuntimeException("Session not found"));
+        return generateNextQuestion(sessionId, previousAnswer, null);
+    }
 
-        InterviewSchedule schedule = scheduleRepository.findBySessionId(sessionId)
-                .orElseThrow(() -> new RuntimeException("Schedule not found"));
+    /**
+     * Generate next interview question, forwarding tokens to the consumer as the
+     * AI produces them. The assembled question is persisted once the stream
+     * completes.
+     */
+    public String streamNextQuestion(String sessionId, String previousAnswer, Consumer<String> onToken) {
+        return generateNextQuestion(sessionId, previousAnswer, onToken);
+    }
 
-        // Save previous answer if provided
-        if (previousAnswer != null && !previousAnswer.trim().isEmpty() && !session.getQuestionAnswers().isEmpty()) {
-            // Get the last question-answer pair
-            List<InterviewSession.QuestionAnswer> qaList = session.getQuestionAnswers();
-            InterviewSession.QuestionAnswer lastQA = qaList.get(qaList.size() - 1);
-            lastQA.setAnswer(previousAnswer);
-            lastQA.setAnsweredAt(LocalDateTime.now());
-
-            // Save exchange
-            InterviewExchange answerExchange = new InterviewExchange();
-            answerExchange.setSessionId(sessionId);
-            answerExchange.setType("answer");
-            answerExchange.setText(previousAnswer);
-            answerExchange.setTimestamp(LocalDateTime.now());
-            answerExchange.setQuestionNumber(session.getQuestionAnswers().size());
-            exchangeRepository.save(answerExchange);
-
-            // Evaluate answer asynchronously
-            evaluateAnswerAsync(sessionId, lastQA.getQuestion(), previousAnswer,
-                    schedule.getPosition(), schedule.getDifficulty());
-
-            sessionRepository.save(session);
-        }
+    /**
+     * Generate next interview question without holding the calling thread while
+     * the AI provider works
+     */
+    public CompletableFuture<String> getNextQuestionAsync(String sessionId, String previousAnswer) {
+        QuestionTurn turn = prepareTurn(sessionId, previousAnswer);
+
+        CompletableFuture<String> question = turn.speculated() != null
+                ? turn.speculated().exceptionallyCompose(e -> generateQuestionAsync(turn))
+                : generateQuestionAsync(turn);
+
+        return question
+                .exceptionally(e -> {
+                    log.error("Failed to generate AI question", e);
+                    throw new RuntimeException("Unable to generate interview question. Please try again later.");
+                })
+                .thenApply(generated -> recordQuestion(turn, generated));
+    }
 
-        // Build conversation history
-        String conversationHistory = buildConversationHistory(sessionId);
+    private CompletableFuture<String> generateQuestionAsync(QuestionTurn turn) {
+        InterviewSchedule schedule = turn.schedule();
+        return aiService.generateInterviewQuestionAsync(
+                schedule.getCompany(),
+                schedule.getPosition(),
+                schedule.getRoundType(),
+                schedule.getDifficulty(),
+                turn.questionNumber(),
+                turn.conversationHistory(),
+                resumeDigester.promptContext(schedule));
+    }
 
-        // Generate next question
-        int questionNumber = session.getQuestionAnswers().size() + 1;
-        String question;
+    private String generateNextQuestion(String sessionId, String previousAnswer, Consumer<String> onToken) {
+        QuestionTurn turn = prepareTurn(sessionId, previousAnswer);
+        InterviewSchedule schedule = turn.schedule();
+        String question = claimSpeculated(turn);
+        if (question != null) {
+            if (onToken != null) {
+                onToken.accept(question);
+            }
+            return recordQuestion(turn, question);
+        }
 
         try {
-            // Pass resume text if available for personalized questions
-            String resumeText = schedule.getResumeText();
-            question = aiService.generateInterviewQuestion(
-                    schedule.getCompany(),
-                    schedule.getPosition(),
-                    schedule.getRoundType(),
-                    schedule.getDifficulty(),
-                    questionNumber,
-                    conversationHistory,
-                    resumeText);
+            // Pass the resume digest (or text) if available for personalized questions
+            String resumeText = resumeDigester.promptContext(schedule);
+            if (onToken != null) {
+                question = aiService.streamInterviewQuestion(
+                        schedule.getCompany(),
+                        schedule.getPosition(),
+                        schedule.getRoundType(),
+                        schedule.getDifficulty(),
+                        turn.questionNumber(),
+                        turn.conversationHistory(),
+                        resumeText,
+                        onToken);
+            } else {
+                question = aiService.generateInterviewQuestion(
+                        schedule.getCompany(),
+                        schedule.getPosition(),
+                        schedule.getRoundType(),
+                        schedule.getDifficulty(),
+                        turn.questionNumber(),
+                        turn.conversationHistory(),
+                        resumeText);
+            }
         } catch (Exception e) {
             log.error("Failed to generate AI question", e);
             throw new RuntimeException("Unable to generate interview question. Please try again later.");
         }
 
-        // Save question in session
-        InterviewSession.QuestionAnswer qa = new InterviewSession.QuestionAnswer();
-        qa.setQuestion(question);
-        qa.setDifficultyLevel(session.getCurrentDifficultyLevel());
-        session.getQuestionAnswers().add(qa);
-        sessionRepository.save(session);
-
-        InterviewExchange questionExchange = new InterviewExchange();
-        questionExchange.setSessionId(sessionId);
-        questionExchange.setType("question");
-        questionExchange.setText(question);
-        questionExchange.setTimestamp(LocalDateTime.now());
-        questionExchange.setQuestionNumber(questionNumber);
-        exchangeRepository.save(questionExchange);
+        return recordQuestion(turn, question);
+    }
+
+    /**
+     * Wait for the speculative question, if there is one; null if it failed
+     */
+    private String claimSpeculated(QuestionTurn turn) {
+        if (turn.speculated() == null) {
+            return null;
+        }
+        try {
+            return turn.speculated().join();
+        } catch (CancellationException | CompletionException e) {
+            log.warn("Speculative question failed, generating it again: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Record the previous answer and gather everything needed to ask the next
+     * question
+     */
+    private QuestionTurn prepareTurn(String sessionId, String previousAnswer) {
+        LiveSession live = liveSessionStore.get(sessionId);
+        InterviewSession session = live.getSession();
+        InterviewSchedule schedule = live.getSchedule();
+        String conversationHistory;
+        int questionNumber;
+
+        synchronized (live) {
+            // Save previous answer if provided
+            if (previousAnswer != null && !previousAnswer.trim().isEmpty()
+                    && !session.getQuestionAnswers().isEmpty()) {
+                // Get the last question-answer pair
+                List<InterviewSession.QuestionAnswer> qaList = session.getQuestionAnswers();
+                InterviewSession.QuestionAnswer lastQA = qaList.get(qaList.size() - 1);
+                lastQA.setAnswer(previousAnswer);
+                lastQA.setAnsweredAt(LocalDateTime.now());
+
+                // Save exchange
+                InterviewExchange answerExchange = new InterviewExchange();
+                answerExchange.setSessionId(sessionId);
+                answerExchange.setType("answer");
+                answerExchange.setText(previousAnswer);
+                answerExchange.setTimestamp(LocalDateTime.now());
+                answerExchange.setQuestionNumber(session.getQuestionAnswers().size());
+                liveSessionStore.addExchange(live, answerExchange);
+
+                // Evaluate answer asynchronously
+                evaluateAnswerAsync(sessionId, answerExchange.getId(), lastQA.getQuestion(), previousAnswer,
+                        schedule.getPosition(), schedule.getDifficulty());
+                liveSessionStore.saveSession(live);
+            }
+
+            // Build conversation history within the round's prompt budget; the updated
+            // summary is saved with the session when the question is recorded
+            conversationHistory = historyManager.buildHistory(session, schedule.getRoundType(),
+                    live.getTranscript());
+            questionNumber = session.getQuestionAnswers().size() + 1;
+        }
+
+        // A question pre-generated while the candidate was answering, if it still fits
+        CompletableFuture<String> speculated = questionSpeculator.claim(sessionId, questionNumber,
+                schedule.getRoundType(), previousAnswer);
+
+        return new QuestionTurn(live, questionNumber, conversationHistory, speculated);
+    }
+
+    /**
+     * Persist a generated question into the session and exchange log
+     */
+    private String recordQuestion(QuestionTurn turn, String question) {
+        LiveSession live = turn.live();
+        InterviewSession session = turn.session();
+        String sessionId = session.getId();
+        int questionNumber = turn.questionNumber();
+
+        synchronized (live) {
+            // Save question in session
+            InterviewSession.QuestionAnswer qa = new InterviewSession.QuestionAnswer();
+            qa.setQuestion(question);
+            qa.setDifficultyLevel(session.getCurrentDifficultyLevel());
+            session.getQuestionAnswers().add(qa);
+
+            InterviewExchange questionExchange = new InterviewExchange();
+            questionExchange.setSessionId(sessionId);
+            questionExchange.setType("question");
+            questionExchange.setText(question);
+            questionExchange.setTimestamp(LocalDateTime.now());
+            questionExchange.setQuestionNumber(questionNumber);
+            liveSessionStore.addExchange(live, questionExchange);
+        }
+        liveSessionStore.saveSession(live);
 
         log.info("Generated question #{} for session: {}", questionNumber, sessionId);
+
+        // Start on the next question while the candidate answers this one
+        questionSpeculator.speculate(sessionId, turn.schedule(), questionNumber + 1, turn.conversationHistory(),
+                question);
         return question;
     }
 
+    private record QuestionTurn(LiveSession live, int questionNumber, String conversationHistory,
+            CompletableFuture<String> speculated) {
+
+        InterviewSession session() {
+            return live.getSession();
+        }
+
+        InterviewSchedule schedule() {
+            return live.getSchedule();
+        }
+    }
+
     /**
      * End interview and generate final evaluation
      */
     public InterviewEvaluation endInterview(String sessionId) {
-        InterviewSession session = sessionRepository.findById(sessionId)
-                .orElseThrow(() -> new RuntimeException("Session not found"));
+        ClosingStages stages = new ClosingStages(sessionId);
+        try {
+            InterviewClosing closing = stages.time("load", () -> prepareClosing(sessionId));
+            InterviewSchedule schedule = closing.schedule();
 
-        InterviewSchedule schedule = scheduleRepository.findBySessionId(sessionId)
-                .orElseThrow(() -> new RuntimeException("Schedule not found"));
+            // Score answers still waiting for an evaluation while the report is written
+            RemainingEvaluation remaining = evaluateRemainingAnswers(closing);
+            CompletableFuture<Void> remainingScores = stages.timeAsync("evaluations", remaining.scored());
+
+            try {
+                // Generate final report
+                String reportJson = stages.time("report", () -> {
+                    try {
+                        return aiService.generateFinalReport(
+                                schedule.getCompany(),
+                                schedule.getPosition(),
+                                schedule.getRoundType(),
+                                schedule.getDifficulty(),
+                                closing.fullTranscript(),
+                                closing.session().getQuestionAnswers().size());
+                    } catch (Exception e) {
+                        log.error("Failed to generate AI report, using fallback", e);
+                        return null;
+                    }
+                });
+
+                remainingScores.join();
+                return stages.time("persist", () -> completeInterview(closing, reportJson));
+            } catch (RuntimeException e) {
+                remaining.cancel();
+                throw e;
+            }
+        } finally {
+            stages.finish();
+        }
+    }
+
+    /**
+     * End interview without holding the calling thread while the final report is
+     * generated. The report and the batch evaluation of remaining answers run
+     * side by side; if the interview cannot be completed, or the caller cancels,
+     * both are cancelled with it.
+     */
+    public CompletableFuture<InterviewEvaluation> endInterviewAsync(String sessionId) {
+        ClosingStages stages = new ClosingStages(sessionId);
+        InterviewClosing closing;
+        try {
+            closing = stages.time("load", () -> prepareClosing(sessionId));
+        } catch (RuntimeException e) {
+            stages.finish();
+            throw e;
+        }
+        InterviewSchedule schedule = closing.schedule();
+
+        RemainingEvaluation remaining = evaluateRemainingAnswers(closing);
+        CompletableFuture<Void> remainingScores = stages.timeAsync("evaluations", remaining.scored());
+        CompletableFuture<String> report = stages.timeAsync("report", aiService.generateFinalReportAsync(
+                schedule.getCompany(),
+                schedule.getPosition(),
+                schedule.getRoundType(),
+                schedule.getDifficulty(),
+                closing.fullTranscript(),
+                closing.session().getQuestionAnswers().size()));
+
+        CompletableFuture<InterviewEvaluation> evaluation = report
+                .exceptionally(e -> {
+                    log.error("Failed to generate AI report, using fallback", e);
+                    return null;
+                })
+                .thenCombine(remainingScores, (reportJson, scored) -> reportJson)
+                .thenApply(reportJson -> stages.time("persist", () -> completeInterview(closing, reportJson)));
+
+        evaluation.whenComplete((result, e) -> {
+            if (e != null) {
+                report.cancel(true);
+                remaining.cancel();
+            }
+            stages.finish();
+        });
+        return evaluation;
+    }
+
+    /**
+     * Score every answer whose background evaluation has not landed yet, in a
+     * single call. Evaluations still queued are taken over by the batch;
+     * those already running are waited for instead. Never fails; answers it
+     * cannot score are left unscored.
+     */
+    private RemainingEvaluation evaluateRemainingAnswers(InterviewClosing closing) {
+        if (!batchEvaluationEnabled) {
+            return RemainingEvaluation.NONE;
+        }
+
+        LiveSession live = closing.live();
+        List<InterviewSession.QuestionAnswer> qaList = closing.session().getQuestionAnswers();
+        Map<Integer, InterviewExchange> unscored = new HashMap<>();
+        List<AnswerToEvaluate> answers = new ArrayList<>();
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+        synchronized (live) {
+            for (InterviewExchange exchange : closing.exchanges()) {
+                Integer questionNumber = exchange.getQuestionNumber();
+                if (!"answer".equals(exchange.getType()) || exchange.getScore() != null || questionNumber == null
+                        || questionNumber > qaList.size() || exchange.getText().isBlank()) {
+                    continue;
+                }
+                PendingEvaluation pending = pendingEvaluations.remove(exchange.getId());
+                if (pending != null && !pending.claim()) {
+                    // Already being scored on its own; wait for that rather than score it twice
+                    running.add(pending.done());
+                    continue;
+                }
+                unscored.put(questionNumber, exchange);
+                answers.add(new AnswerToEvaluate(questionNumber, qaList.get(questionNumber - 1).getQuestion(),
+                        exchange.getText()));
+            }
+        }
+        CompletableFuture<Void> ownEvaluations = CompletableFuture.allOf(running.toArray(CompletableFuture[]::new));
+        if (answers.isEmpty()) {
+            return running.isEmpty()
+                    ? RemainingEvaluation.NONE
+                    : new RemainingEvaluation(CompletableFuture.completedFuture(null), ownEvaluations);
+        }
+
+        String sessionId = closing.session().getId();
+        InterviewSchedule schedule = closing.schedule();
+        CompletableFuture<String> call = aiService.evaluateAnswersAsync(schedule.getPosition(),
+                schedule.getDifficulty(), answers);
+        CompletableFuture<Void> scored = call
+                .thenAccept(evaluationJson -> {
+                    List<AnswerScoreResult> results = llmJsonCodec.decode(evaluationJson,
+                            LlmJsonCodec.ANSWER_SCORE_LIST);
+                    int applied = 0;
+                    for (AnswerScoreResult result : results) {
+                        InterviewExchange exchange = unscored.remove(result.questionNumber());
+                        if (exchange != null) {
+                            liveSessionStore.applyEvaluation(live, exchange.getId(),
+                                    (int) Math.round(result.score()), result.feedback());
+                            applied++;
+                        }
+                    }
+                    log.info("Batch evaluated {} of {} remaining answers for session: {}", applied, answers.size(),
+                            sessionId);
+                })
+                .exceptionally(e -> {
+                    log.error("Failed to batch evaluate remaining answers for session: {}", sessionId, e);
+                    return null;
+                });
+        return new RemainingEvaluation(call, CompletableFuture.allOf(scored, ownEvaluations));
+    }
+
+    /**
+     * A batch evaluation in flight. Cancelling the scores only detaches them
+     * from the AI call, so the call itself is kept to be cancelled.
+     */
+    private record RemainingEvaluation(CompletableFuture<String> call, CompletableFuture<Void> scored) {
+
+        private static final RemainingEvaluation NONE = new RemainingEvaluation(
+                CompletableFuture.completedFuture(null), CompletableFuture.completedFuture(null));
+
+        void cancel() {
+            call.cancel(true);
+        }
+    }
+
+    private InterviewClosing prepareClosing(String sessionId) {
+        questionSpeculator.discard(sessionId);
+
+        LiveSession live = liveSessionStore.get(sessionId);
 
         // Get all exchanges
-        List<InterviewExchange> exchanges = exchangeRepository.findBySessionIdOrderByTimestampAsc(sessionId);
+        List<InterviewExchange> exchanges;
+        synchronized (live) {
+            exchanges = new ArrayList<>(live.getTranscript());
+        }
 
         // Build full transcript
         String fullTranscript = buildFullTranscript(exchanges);
 
-        // Generate final report
+        return new InterviewClosing(live, exchanges, fullTranscript);
+    }
+
+    /**
+     * Build the evaluation from the AI report (or the fallback when there is
+     * none) and mark the session and schedule completed
+     */
+    private InterviewEvaluation completeInterview(InterviewClosing closing, String reportJson) {
+        InterviewSession session = closing.session();
+        InterviewSchedule schedule = closing.schedule();
+        List<InterviewExchange> exchanges = closing.exchanges();
+        String sessionId = session.getId();
+
         InterviewEvaluation evaluation;
-        try {
-            String reportJson = aiService.generateFinalReport(
-                    schedule.getCompany(),
-                    schedule.getPosition(),
-                    schedule.getRoundType(),
-                    schedule.getDifficulty(),
-                    fullTranscript,
-                    session.getQuestionAnswers().size());
+        if (reportJson == null) {
+            evaluation = generateFallbackEvaluation(sessionId, session);
+        } else {
+            evaluation = parseFinalReport(sessionId, session, exchanges, reportJson);
+        }
+
+        evaluation.setCreatedAt(LocalDateTime.now());
+        evaluation.setUpdatedAt(LocalDateTime.now());
+
+        LiveSession live = closing.live();
+        synchronized (live) {
+            // Update session status
+            session.setStatus(InterviewSession.SessionStatus.COMPLETED);
+            session.setCompletedAt(LocalDateTime.now());
+
+            // Update schedule status
+            schedule.setStatus("COMPLETED");
+            schedule.setCompletedAt(LocalDateTime.now());
+        }
+
+        // The session and schedule are written behind while the evaluation is
+        // saved here; closing waits for both
+        liveSessionStore.saveSession(live);
+        liveSessionStore.saveSchedule(live);
+        evaluation = evaluationRepository.save(evaluation);
+        liveSessionStore.close(sessionId);
 
+        log.info("Completed interview session: {} with score: {}", sessionId, evaluation.getOverallScore());
+        return evaluation;
+    }
+
+    private InterviewEvaluation parseFinalReport(String sessionId, InterviewSession session,
+            List<InterviewExchange> exchanges, String reportJson) {
+        InterviewEvaluation evaluation;
+        try {
             // Parse AI response
-            String cleanedJson = cleanJsonResponse(reportJson);
-            JsonObject reportObj = gson.fromJson(cleanedJson, JsonObject.class);
+            FinalReportResult report = llmJsonCodec.decode(reportJson, FinalReportResult.class);
 
             evaluation = new InterviewEvaluation();
             evaluation.setSessionId(sessionId);
             evaluation.setUserId(session.getUserId());
-            evaluation.setOverallScore(reportObj.get("overallScore").getAsInt());
-            evaluation.setDecision(reportObj.get("decision").getAsString());
-            evaluation.setDetailedFeedback(reportObj.get("detailedFeedback").getAsString());
-
-            // Parse arrays
-            evaluation.setStrengths(gson.fromJson(reportObj.get("strengths"), List.class));
-            evaluation.setWeaknesses(gson.fromJson(reportObj.get("weaknesses"), List.class));
-            evaluation.setImprovements(gson.fromJson(reportObj.get("improvements"), List.class));
+            evaluation.setOverallScore(report.overallScore());
+            evaluation.setDecision(report.decision());
+            evaluation.setDetailedFeedback(report.detailedFeedback());
+            evaluation.setStrengths(report.strengths());
+            evaluation.setWeaknesses(report.weaknesses());
+            evaluation.setImprovements(report.improvements());
 
             // Build question scores from exchanges
             List<InterviewEvaluation.QuestionScore> questionScores = new ArrayList<>();
@@ -246,26 +611,62 @@ public class LiveInterviewService {
             evaluation.setQuestionScores(questionScores);
 
         } catch (Exception e) {
-            log.error("Failed to generate AI report, using fallback", e);
+            log.error("Failed to parse AI report, using fallback", e);
             evaluation = generateFallbackEvaluation(sessionId, session);
         }
+        return evaluation;
+    }
 
-        evaluation.setCreatedAt(LocalDateTime.now());
-        evaluation.setUpdatedAt(LocalDateTime.now());
-        evaluation = evaluationRepository.save(evaluation);
+    private record InterviewClosing(LiveSession live, List<InterviewExchange> exchanges, String fullTranscript) {
 
-        // Update session status
-        session.setStatus(InterviewSession.SessionStatus.COMPLETED);
-        session.setCompletedAt(LocalDateTime.now());
-        sessionRepository.save(session);
+        InterviewSession session() {
+            return live.getSession();
+        }
 
-        // Update schedule status
-        schedule.setStatus("COMPLETED");
-        schedule.setCompletedAt(LocalDateTime.now());
-        scheduleRepository.save(schedule);
+        InterviewSchedule schedule() {
+            return live.getSchedule();
+        }
+    }
 
-        log.info("Completed interview session: {} with score: {}", sessionId, evaluation.getOverallScore());
-        return evaluation;
+    /**
+     * Times the stages of ending an interview, recording each to
+     * interview.end.stage and logging the breakdown once the interview is done
+     */
+    private final class ClosingStages {
+        private final String sessionId;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, Long> stageMillis = new ConcurrentHashMap<>();
+
+        private ClosingStages(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        private <T> T time(String stage, Supplier<T> work) {
+            long start = System.nanoTime();
+            try {
+                return work.get();
+            } finally {
+                record(stage, System.nanoTime() - start);
+            }
+        }
+
+        private <T> CompletableFuture<T> timeAsync(String stage, CompletableFuture<T> work) {
+            long start = System.nanoTime();
+            work.whenComplete((result, e) -> record(stage, System.nanoTime() - start));
+            return work;
+        }
+
+        private void record(String stage, long nanos) {
+            stageMillis.put(stage, TimeUnit.NANOSECONDS.toMillis(nanos));
+            meterRegistry.timer("interview.end.stage", "stage", stage).record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void finish() {
+            long nanos = System.nanoTime() - startNanos;
+            meterRegistry.timer("interview.end").record(nanos, TimeUnit.NANOSECONDS);
+            log.info("Ended interview session {} in {} ms, stages (ms): {}", sessionId,
+                    TimeUnit.NANOSECONDS.toMillis(nanos), new TreeMap<>(stageMillis));
+        }
     }
 
     /**
@@ -278,39 +679,60 @@ public class LiveInterviewService {
 
     // Helper methods
 
-    private void evaluateAnswerAsync(String sessionId, String question, String answer,
+    private void evaluateAnswerAsync(String sessionId, String exchangeId, String question, String answer,
             String position, String difficulty) {
-        new Thread(() -> {
-            try {
-                String evaluationJson = aiService.evaluateAnswer(question, answer, position, difficulty);
-                String cleanedJson = cleanJsonResponse(evaluationJson);
-                JsonObject evalObj = gson.fromJson(cleanedJson, JsonObject.class);
+        PendingEvaluation pending = new PendingEvaluation();
+        pendingEvaluations.put(exchangeId, pending);
+        try {
+            evaluationExecutor.execute(() -> {
+                if (!pending.claim()) {
+                    // The interview ended first and the batch evaluation took it over
+                    return;
+                }
+                try {
+                    evaluateAnswer(sessionId, exchangeId, question, answer, position, difficulty);
+                } finally {
+                    pendingEvaluations.remove(exchangeId, pending);
+                    pending.done().complete(null);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            pendingEvaluations.remove(exchangeId, pending);
+            // The answer stays unscored; the final report treats it as not evaluated
+            log.warn("Skipping evaluation for session {}: {}", sessionId, e.getMessage());
+        }
+    }
 
-                int score = evalObj.get("score").getAsInt();
-                String feedback = evalObj.get("feedback").getAsString();
+    /**
+     * A per-answer evaluation submitted to the evaluation executor. Whichever
+     * claims it first, the task or the closing batch, scores the answer.
+     */
+    private record PendingEvaluation(AtomicBoolean claimed, CompletableFuture<Void> done) {
 
-                // Update the exchange with score and feedback
-                List<InterviewExchange> exchanges = exchangeRepository.findBySessionIdOrderByTimestampAsc(sessionId);
-                exchanges.stream()
-                        .filter(e -> e.getType().equals("answer") && e.getText().equals(answer))
-                        .findFirst()
-                        .ifPresent(exchange -> {
-                            exchange.setScore(score);
-                            exchange.setFeedback(feedback);
-                            exchangeRepository.save(exchange);
-                        });
-
-            } catch (Exception e) {
-                log.error("Failed to evaluate answer asynchronously", e);
-            }
-        }).start();
+        PendingEvaluation() {
+            this(new AtomicBoolean(), new CompletableFuture<>());
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
     }
 
-    private String buildConversationHistory(String sessionId) {
-        List<InterviewExchange> exchanges = exchangeRepository.findBySessionIdOrderByTimestampAsc(sessionId);
-        return exchanges.stream()
-                .map(e -> (e.getType().equals("question") ? "Q: " : "A: ") + e.getText())
-                .collect(Collectors.joining("\n"));
+    private void evaluateAnswer(String sessionId, String exchangeId, String question, String answer,
+            String position, String difficulty) {
+        try {
+            String evaluationJson = aiService.evaluateAnswer(question, answer, position, difficulty);
+            AnswerEvaluationResult result = llmJsonCodec.decode(evaluationJson, AnswerEvaluationResult.class);
+
+            int score = (int) Math.round(result.score());
+            String feedback = result.feedback();
+
+            // Update the answer's exchange with score and feedback
+            liveSessionStore.applyEvaluation(sessionId, exchangeId, score, feedback);
+
+        } catch (Exception e) {
+            log.error("Failed to evaluate answer asynchronously", e);
+        }
     }
 
     private String buildFullTranscript(List<InterviewExchange> exchanges) {
@@ -336,18 +758,6 @@ public class LiveInterviewService {
         return evaluation;
     }
 
-    private String cleanJsonResponse(String response) {
-        if (response == null)
-            return "{}";
-        String cleaned = response.trim();
-        if (cleaned.startsWith("```json"))
-            cleaned = cleaned.substring(7);
-        else if (cleaned.startsWith("```"))
-            cleaned = cleaned.substring(3);
-        if (cleaned.endsWith("```"))
-            cleaned = cleaned.substring(0, cleaned.length() - 3);
-        return cleaned.trim();
-    }
 
     @Transactional
     public void deleteEvaluation(String sessionId) {
@@ -358,7 +768,8 @@ public class LiveInterviewService {
             evaluationRepository.deleteBySessionId(sessionId);
             log.info("Deleted evaluation for session: {}", sessionId);
 
-            // Then delete session
+            // Then delete session, once nothing is left to write for it
+            liveSessionStore.close(sessionId);
             sessionRepository.deleteById(sessionId);
             log.info("Deleted session: {}", sessionId);
 
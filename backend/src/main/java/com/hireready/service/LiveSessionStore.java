@@ -0,0 +1,308 @@
+package com.hireready.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hireready.model.InterviewExchange;
+import com.hireready.model.InterviewSchedule;
+import com.hireready.model.InterviewSession;
+import com.hireready.repository.InterviewExchangeRepository;
+import com.hireready.repository.InterviewScheduleRepository;
+import com.hireready.repository.InterviewSessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory state of live interviews: the session, a snapshot of its schedule
+ * and the transcript, keyed by session id and dropped after an idle TTL.
+ *
+ * Reads on the question path are served from memory and writes are persisted
+ * behind the request, in order per session, on the session write executor.
+ * Repeated saves of a session or schedule that have not been written yet are
+ * coalesced into one. Ending a session flushes its writes. A session this node
+ * does not hold, e.g. after a restart or an idle eviction, is rebuilt from
+ * Mongo once its pending writes have landed.
+ *
+ * Callers mutate a {@link LiveSession}'s objects only while holding its lock,
+ * which is also held while they are written.
+ *
+ * This assumes each live session is served by one node at a time, i.e. a
+ * single instance or sticky sessions by session id. Two nodes holding the same
+ * session would each write their own copy behind the other's back, and a node
+ * rebuilding a session cannot see writes still queued on another node.
+ *
+ * Rebuilding runs inside the cache's load, so concurrent requests for the same
+ * session wait for one rebuild. The schedule and transcript are read on the
+ * session recovery executor, never on a pool that AI callbacks depend on.
+ */
+@Slf4j
+@Component
+public class LiveSessionStore {
+
+    private final InterviewSessionRepository sessionRepository;
+    private final InterviewScheduleRepository scheduleRepository;
+    private final InterviewExchangeRepository exchangeRepository;
+    private final Executor writeExecutor;
+    private final Executor readExecutor;
+    private final Cache<String, LiveSession> sessions;
+    private final Map<String, CompletableFuture<Void>> writes = new ConcurrentHashMap<>();
+    private final Counter recoveries;
+    private final Counter writeFailures;
+
+    public LiveSessionStore(InterviewSessionRepository sessionRepository,
+            InterviewScheduleRepository scheduleRepository,
+            InterviewExchangeRepository exchangeRepository,
+            @Qualifier("sessionWriteExecutor") Executor writeExecutor,
+            @Qualifier("sessionRecoveryExecutor") Executor readExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${interview.live.idle.ttl.minutes:30}") long idleTtlMinutes,
+            @Value("${interview.live.max.sessions:5000}") long maxSessions) {
+        this.sessionRepository = sessionRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.exchangeRepository = exchangeRepository;
+        this.writeExecutor = writeExecutor;
+        this.readExecutor = readExecutor;
+        this.recoveries = Counter.builder("interview.live.recoveries")
+                .description("Live sessions rebuilt from Mongo")
+                .register(meterRegistry);
+        this.writeFailures = Counter.builder("interview.live.write.failures")
+                .description("Write-behind operations that failed")
+                .register(meterRegistry);
+
+        // Writes are queued independently of the cache, so an evicted session
+        // still has everything it queued persisted
+        this.sessions = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(idleTtlMinutes))
+                .maximumSize(maxSessions)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, sessions, "interview.live.sessions");
+    }
+
+    /**
+     * Hold a session that has just been started and saved
+     */
+    public LiveSession open(InterviewSession session, InterviewSchedule schedule) {
+        LiveSession live = new LiveSession(session, schedule, new ArrayList<>());
+        sessions.put(session.getId(), live);
+        return live;
+    }
+
+    /**
+     * The live state of a session, rebuilt from Mongo if this node does not
+     * hold it
+     */
+    public LiveSession get(String sessionId) {
+        return sessions.get(sessionId, this::recover);
+    }
+
+    /**
+     * Persist the session behind the request. Does nothing if a save is
+     * already queued, since it will write the latest state.
+     */
+    public void saveSession(LiveSession live) {
+        if (live.sessionDirty.compareAndSet(false, true)) {
+            enqueue(live.session.getId(), () -> {
+                synchronized (live) {
+                    live.sessionDirty.set(false);
+                    sessionRepository.save(live.session);
+                }
+            });
+        }
+    }
+
+    /**
+     * Persist the schedule behind the request, coalescing like
+     * {@link #saveSession}
+     */
+    public void saveSchedule(LiveSession live) {
+        if (live.scheduleDirty.compareAndSet(false, true)) {
+            enqueue(live.session.getId(), () -> {
+                synchronized (live) {
+                    live.scheduleDirty.set(false);
+                    scheduleRepository.save(live.schedule);
+                }
+            });
+        }
+    }
+
+    /**
+     * Append an exchange to the transcript and persist it behind the request.
+     * The id is assigned here so it can be referred to before it is written.
+     * The caller must hold the session's lock.
+     */
+    public InterviewExchange addExchange(LiveSession live, InterviewExchange exchange) {
+        exchange.setId(new ObjectId().toHexString());
+        live.transcript.add(exchange);
+        live.exchangesById.put(exchange.getId(), exchange);
+        enqueue(live.session.getId(), () -> {
+            synchronized (live) {
+                exchangeRepository.save(exchange);
+            }
+        });
+        return exchange;
+    }
+
+    /**
+     * Record an answer's evaluation in memory, if the session is held, and in
+     * Mongo after the exchange itself has been written
+     */
+    public void applyEvaluation(String sessionId, String exchangeId, Integer score, String feedback) {
+        applyEvaluation(sessionId, sessions.getIfPresent(sessionId), exchangeId, score, feedback);
+    }
+
+    /**
+     * Record an answer's evaluation on a session the caller already holds,
+     * whether or not it is still cached
+     */
+    public void applyEvaluation(LiveSession live, String exchangeId, Integer score, String feedback) {
+        applyEvaluation(live.session.getId(), live, exchangeId, score, feedback);
+    }
+
+    private void applyEvaluation(String sessionId, LiveSession live, String exchangeId, Integer score,
+            String feedback) {
+        if (live != null) {
+            synchronized (live) {
+                InterviewExchange exchange = live.exchangesById.get(exchangeId);
+                if (exchange != null) {
+                    exchange.setScore(score);
+                    exchange.setFeedback(feedback);
+                }
+            }
+        }
+
+        enqueue(sessionId, () -> {
+            if (exchangeRepository.updateScoreAndFeedbackById(exchangeId, score, feedback) == 0) {
+                log.warn("Answer exchange {} no longer exists; evaluation dropped", exchangeId);
+            }
+        });
+    }
+
+    /**
+     * Flush the session's writes and stop holding it
+     */
+    public void close(String sessionId) {
+        flush(sessionId);
+        sessions.invalidate(sessionId);
+    }
+
+    /**
+     * Wait for every write queued so far for the session
+     */
+    public void flush(String sessionId) {
+        CompletableFuture<Void> pending = writes.get(sessionId);
+        if (pending != null) {
+            pending.join();
+        }
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        List<CompletableFuture<Void>> pending = new ArrayList<>(writes.values());
+        if (!pending.isEmpty()) {
+            log.info("Flushing writes for {} live sessions", pending.size());
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        }
+    }
+
+    private LiveSession recover(String sessionId) {
+        // An evicted copy of this session may still have writes in flight
+        flush(sessionId);
+
+        // The three reads are independent; the schedule and transcript load while
+        // the session is read here, and are abandoned if it does not exist
+        CompletableFuture<InterviewSchedule> schedule = CompletableFuture.supplyAsync(() -> scheduleRepository
+                .findBySessionId(sessionId)
+                .orElseThrow(() -> new RuntimeException("Schedule not found")), readExecutor);
+        CompletableFuture<List<InterviewExchange>> transcript = CompletableFuture.supplyAsync(
+                () -> exchangeRepository.findBySessionIdOrderByTimestampAsc(sessionId), readExecutor);
+
+        InterviewSession session;
+        try {
+            session = sessionRepository.findById(sessionId)
+                    .orElseThrow(() -> new RuntimeException("Session not found"));
+            CompletableFuture.allOf(schedule, transcript).join();
+        } catch (RuntimeException e) {
+            schedule.cancel(true);
+            transcript.cancel(true);
+            throw e instanceof CompletionException && e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+
+        recoveries.increment();
+        log.info("Rebuilt live session {} from Mongo with {} exchanges", sessionId, transcript.join().size());
+        return new LiveSession(session, schedule.join(), new ArrayList<>(transcript.join()));
+    }
+
+    /**
+     * Chain a write after the session's previous one. A failed write is logged
+     * and does not hold up the ones after it.
+     */
+    private void enqueue(String sessionId, Runnable write) {
+        CompletableFuture<Void> next = writes.compute(sessionId, (id, tail) ->
+                (tail != null ? tail : CompletableFuture.<Void>completedFuture(null))
+                        .exceptionally(e -> null)
+                        .thenRunAsync(() -> {
+                            try {
+                                write.run();
+                            } catch (Exception e) {
+                                writeFailures.increment();
+                                log.error("Failed to persist live session {}", id, e);
+                            }
+                        }, writeExecutor));
+        next.whenComplete((result, e) -> writes.remove(sessionId, next));
+    }
+
+    /**
+     * One live interview held in memory
+     */
+    public static final class LiveSession {
+        private final InterviewSession session;
+        private final InterviewSchedule schedule;
+        private final List<InterviewExchange> transcript;
+        private final Map<String, InterviewExchange> exchangesById = new HashMap<>();
+        private final AtomicBoolean sessionDirty = new AtomicBoolean(false);
+        private final AtomicBoolean scheduleDirty = new AtomicBoolean(false);
+
+        private LiveSession(InterviewSession session, InterviewSchedule schedule,
+                List<InterviewExchange> transcript) {
+            this.session = session;
+            this.schedule = schedule;
+            this.transcript = transcript;
+            transcript.forEach(exchange -> exchangesById.put(exchange.getId(), exchange));
+        }
+
+        public InterviewSession getSession() {
+            return session;
+        }
+
+        public InterviewSchedule getSchedule() {
+            return schedule;
+        }
+
+        /**
+         * Exchanges in the order they happened. Read only while holding the
+         * session's lock.
+         */
+        public List<InterviewExchange> getTranscript() {
+            return transcript;
+        }
+    }
+}
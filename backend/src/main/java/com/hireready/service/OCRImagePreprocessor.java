@@ -0,0 +1,427 @@
+package com.hireready.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prepares uploaded images for OCR.
+ *
+ * Phone photos of a resume arrive at far more pixels than Tesseract needs, so
+ * the image is decoded subsampled towards the target DPI, assuming the photo
+ * spans roughly an A4 page, and then resampled to it exactly while converting
+ * to grayscale. The grayscale image is binarized with a local (Bradley)
+ * threshold, which copes with the uneven lighting of photos where a global
+ * threshold loses text in shadows. The skew is estimated from the projection
+ * profile of the ink and corrected, and blank margins and dark scanner or
+ * photo borders are cropped away.
+ *
+ * Each stage after grayscale conversion can be switched off, and every stage
+ * is timed.
+ */
+@Slf4j
+@Component
+public class OCRImagePreprocessor {
+
+    private static final double PAGE_LONG_EDGE_INCHES = 11.69;
+    private static final int INK_THRESHOLD = 128;
+    private static final double MIN_SKEW_DEGREES = 0.2;
+    private static final double SKEW_STEP_DEGREES = 0.25;
+    private static final int MAX_SKEW_SAMPLES = 200_000;
+    private static final double MAX_BORDER_INK = 0.5;
+    private static final int CROP_PADDING = 10;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ocr.preprocess.target.dpi:300}")
+    private int targetDpi;
+
+    @Value("${ocr.preprocess.subsample.enabled:true}")
+    private boolean subsampleEnabled;
+
+    @Value("${ocr.preprocess.binarize.enabled:true}")
+    private boolean binarizeEnabled;
+
+    @Value("${ocr.preprocess.binarize.window.fraction:0.125}")
+    private double binarizeWindowFraction;
+
+    @Value("${ocr.preprocess.binarize.threshold.percent:15}")
+    private int binarizeThresholdPercent;
+
+    @Value("${ocr.preprocess.deskew.enabled:true}")
+    private boolean deskewEnabled;
+
+    @Value("${ocr.preprocess.deskew.max.degrees:5}")
+    private double maxSkewDegrees;
+
+    @Value("${ocr.preprocess.crop.enabled:true}")
+    private boolean cropEnabled;
+
+    public OCRImagePreprocessor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Decode an image and prepare it for OCR, or null if it is not an image
+     * that can be read
+     */
+    public BufferedImage read(InputStream in) throws IOException {
+        BufferedImage image = time("decode", () -> decode(ImageIO.createImageInputStream(in), 0));
+        return image == null ? null : prepare(image);
+    }
+
+    /**
+     * Decode one image of a file that may hold several, such as a page of a
+     * multi-page TIFF, subsampled like {@link #read} but not yet prepared. Safe
+     * to call from several threads at once.
+     */
+    public BufferedImage decode(Path file, int index) throws IOException {
+        return time("decode", () -> decode(ImageIO.createImageInputStream(file.toFile()), index));
+    }
+
+    /**
+     * The number of images in the file, or 0 if it is not a readable image
+     */
+    public int countImages(Path file) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = stream == null ? null : ImageIO.getImageReaders(stream);
+            if (readers == null || !readers.hasNext()) {
+                return 0;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, false, true);
+                return reader.getNumImages(true);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Prepare a decoded image for OCR
+     */
+    public BufferedImage prepare(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        BufferedImage prepared = time("grayscale", () -> grayscale(image));
+        if (binarizeEnabled) {
+            BufferedImage gray = prepared;
+            prepared = time("binarize", () -> binarize(gray));
+        }
+        if (deskewEnabled) {
+            BufferedImage binary = prepared;
+            prepared = time("deskew", () -> deskew(binary));
+        }
+        if (cropEnabled) {
+            BufferedImage straight = prepared;
+            prepared = time("crop", () -> crop(straight));
+        }
+
+        log.debug("Preprocessed {}x{} image to {}x{} for OCR", width, height,
+                prepared.getWidth(), prepared.getHeight());
+        return prepared;
+    }
+
+    /**
+     * Decode an image in the stream, skipping whole rows and columns while it
+     * stays at or above the target resolution
+     */
+    private BufferedImage decode(ImageInputStream input, int index) throws IOException {
+        try (ImageInputStream stream = input) {
+            if (stream == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int factor = Math.max(reader.getWidth(index), reader.getHeight(index)) / targetLongEdge();
+                if (subsampleEnabled && factor > 1) {
+                    param.setSourceSubsampling(factor, factor, 0, 0);
+                }
+                return reader.read(index, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * An 8-bit grayscale copy, scaled down to the target resolution if it is
+     * larger. Transparent areas become white.
+     */
+    private BufferedImage grayscale(BufferedImage image) {
+        int longEdge = Math.max(image.getWidth(), image.getHeight());
+        double scale = Math.min(1.0, (double) targetLongEdge() / longEdge);
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage gray = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = gray.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return gray;
+    }
+
+    /**
+     * Bradley's adaptive threshold: a pixel is ink if it is darker than the
+     * mean of the window around it by the threshold percentage. Window sums
+     * come from running column sums, so memory stays one row wide.
+     */
+    private BufferedImage binarize(BufferedImage gray) {
+        int width = gray.getWidth();
+        int height = gray.getHeight();
+        byte[] pixels = pixels(gray);
+        BufferedImage binary = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        byte[] out = pixels(binary);
+
+        int radius = Math.max(1, (int) (width * binarizeWindowFraction / 2));
+        int[] columnSums = new int[width];
+        long[] rowPrefix = new long[width + 1];
+        for (int y = 0; y < Math.min(radius, height); y++) {
+            addRow(columnSums, pixels, y, width, 1);
+        }
+
+        for (int y = 0; y < height; y++) {
+            if (y + radius < height) {
+                addRow(columnSums, pixels, y + radius, width, 1);
+            }
+            if (y - radius - 1 >= 0) {
+                addRow(columnSums, pixels, y - radius - 1, width, -1);
+            }
+            int rows = Math.min(height - 1, y + radius) - Math.max(0, y - radius) + 1;
+            for (int x = 0; x < width; x++) {
+                rowPrefix[x + 1] = rowPrefix[x] + columnSums[x];
+            }
+
+            for (int x = 0; x < width; x++) {
+                int from = Math.max(0, x - radius);
+                int to = Math.min(width - 1, x + radius);
+                long sum = rowPrefix[to + 1] - rowPrefix[from];
+                long count = (long) (to - from + 1) * rows;
+                int pixel = pixels[y * width + x] & 0xFF;
+                boolean ink = pixel * count * 100 <= sum * (100 - binarizeThresholdPercent);
+                out[y * width + x] = (byte) (ink ? 0 : 255);
+            }
+        }
+        return binary;
+    }
+
+    private static void addRow(int[] columnSums, byte[] pixels, int row, int width, int sign) {
+        int offset = row * width;
+        for (int x = 0; x < width; x++) {
+            columnSums[x] += sign * (pixels[offset + x] & 0xFF);
+        }
+    }
+
+    /**
+     * Rotate the page level if it is skewed by more than a fraction of a degree
+     */
+    private BufferedImage deskew(BufferedImage image) {
+        double skew = estimateSkewDegrees(image);
+        if (Math.abs(skew) < MIN_SKEW_DEGREES) {
+            return image;
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        BufferedImage straight = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = straight.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    binarizeEnabled
+                            ? RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR
+                            : RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.rotate(Math.toRadians(-skew), width / 2.0, height / 2.0);
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        log.debug("Corrected {} degree skew before OCR", String.format("%.2f", skew));
+        return straight;
+    }
+
+    /**
+     * The angle, within the configured range, at which the ink projects onto
+     * the sharpest horizontal profile: lines of text then fall into few rows
+     */
+    private double estimateSkewDegrees(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        byte[] pixels = pixels(image);
+
+        int ink = 0;
+        for (byte pixel : pixels) {
+            if ((pixel & 0xFF) < INK_THRESHOLD) {
+                ink++;
+            }
+        }
+        if (ink == 0) {
+            return 0;
+        }
+
+        int stride = Math.max(1, (int) Math.ceil((double) ink / MAX_SKEW_SAMPLES));
+        int samples = 0;
+        int[] xs = new int[Math.min(ink, MAX_SKEW_SAMPLES) + 1];
+        int[] ys = new int[xs.length];
+        for (int i = 0, seen = 0; i < pixels.length && samples < xs.length; i++) {
+            if ((pixels[i] & 0xFF) < INK_THRESHOLD && seen++ % stride == 0) {
+                xs[samples] = i % width;
+                ys[samples] = i / width;
+                samples++;
+            }
+        }
+
+        int[] profile = new int[height + width + 1];
+        double bestAngle = 0;
+        long bestScore = -1;
+        for (double angle = -maxSkewDegrees; angle <= maxSkewDegrees + 1e-9; angle += SKEW_STEP_DEGREES) {
+            double sin = Math.sin(Math.toRadians(angle));
+            double cos = Math.cos(Math.toRadians(angle));
+            Arrays.fill(profile, 0);
+            for (int i = 0; i < samples; i++) {
+                int row = (int) Math.round(ys[i] * cos - xs[i] * sin) + width;
+                if (row >= 0 && row < profile.length) {
+                    profile[row]++;
+                }
+            }
+            long score = 0;
+            for (int count : profile) {
+                score += (long) count * count;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestAngle = angle;
+            }
+        }
+        return bestAngle;
+    }
+
+    /**
+     * Trim edge rows and columns that are blank or mostly ink, i.e. margins
+     * and scanner or photo borders, leaving a small white padding
+     */
+    private BufferedImage crop(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        byte[] pixels = pixels(image);
+
+        int[] rowInk = new int[height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if ((pixels[y * width + x] & 0xFF) < INK_THRESHOLD) {
+                    rowInk[y]++;
+                }
+            }
+        }
+        int top = 0;
+        while (top < height && isBorder(rowInk[top], width)) {
+            top++;
+        }
+        int bottom = height - 1;
+        while (bottom > top && isBorder(rowInk[bottom], width)) {
+            bottom--;
+        }
+        if (top >= bottom) {
+            return image;
+        }
+
+        int rows = bottom - top + 1;
+        int[] columnInk = new int[width];
+        for (int y = top; y <= bottom; y++) {
+            for (int x = 0; x < width; x++) {
+                if ((pixels[y * width + x] & 0xFF) < INK_THRESHOLD) {
+                    columnInk[x]++;
+                }
+            }
+        }
+        int left = 0;
+        while (left < width && isBorder(columnInk[left], rows)) {
+            left++;
+        }
+        int right = width - 1;
+        while (right > left && isBorder(columnInk[right], rows)) {
+            right--;
+        }
+        if (left >= right) {
+            return image;
+        }
+
+        int contentWidth = right - left + 1;
+        BufferedImage cropped = new BufferedImage(contentWidth + 2 * CROP_PADDING, rows + 2 * CROP_PADDING,
+                BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = cropped.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, cropped.getWidth(), cropped.getHeight());
+            graphics.drawImage(image.getSubimage(left, top, contentWidth, rows), CROP_PADDING, CROP_PADDING, null);
+        } finally {
+            graphics.dispose();
+        }
+        return cropped;
+    }
+
+    private static boolean isBorder(int ink, int length) {
+        return ink == 0 || ink > length * MAX_BORDER_INK;
+    }
+
+    private int targetLongEdge() {
+        return (int) Math.round(targetDpi * PAGE_LONG_EDGE_INCHES);
+    }
+
+    private static byte[] pixels(BufferedImage gray) {
+        return ((DataBufferByte) gray.getRaster().getDataBuffer()).getData();
+    }
+
+    private <T, E extends Exception> T time(String stage, Stage<T, E> work) throws E {
+        long start = System.nanoTime();
+        try {
+            return work.run();
+        } finally {
+            Timer.builder("ocr.preprocess.stage")
+                    .description("Time spent in each image preprocessing stage")
+                    .tag("stage", stage)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Stage<T, E extends Exception> {
+        T run() throws E;
+    }
+}
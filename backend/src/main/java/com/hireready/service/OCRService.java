@@ -2,50 +2,66 @@ package com.hireready.service;
 
 import com.hireready.exception.InvalidFileException;
 import lombok.extern.slf4j.Slf4j;
-import net.sourceforge.tess4j.Tesseract;
 import net.sourceforge.tess4j.TesseractException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 public class OCRService {
 
-    @Value("${tesseract.data.path}")
-    private String tesseractDataPath;
+    private final TesseractEnginePool enginePool;
+    private final OCRImagePreprocessor preprocessor;
+    private final Executor pageExecutor;
 
-    @Value("${tesseract.language}")
-    private String tesseractLanguage;
+    @Value("${ocr.tiff.max.pages:10}")
+    private int maxTiffPages;
+
+    public OCRService(TesseractEnginePool enginePool, OCRImagePreprocessor preprocessor,
+            @Qualifier("ocrPageExecutor") Executor pageExecutor) {
+        this.enginePool = enginePool;
+        this.preprocessor = preprocessor;
+        this.pageExecutor = pageExecutor;
+    }
 
     /**
      * Extract text from image using Tesseract OCR
      */
     public String extractTextFromImage(MultipartFile imageFile) {
-        try {
-            Tesseract tesseract = new Tesseract();
+        if ("image/tiff".equals(imageFile.getContentType())) {
+            return extractTextFromTiff(imageFile);
+        }
 
-            // Set Tesseract data path if configured
-            if (tesseractDataPath != null && !tesseractDataPath.isEmpty()) {
-                tesseract.setDatapath(tesseractDataPath);
+        try {
+            // Decode at OCR resolution and clean the image up for Tesseract
+            BufferedImage image;
+            try (InputStream in = imageFile.getInputStream()) {
+                image = preprocessor.read(in);
             }
 
-            tesseract.setLanguage(tesseractLanguage);
-
-            // Convert MultipartFile to BufferedImage
-            BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageFile.getBytes()));
-
             if (image == null) {
                 throw new InvalidFileException("Invalid image file");
             }
 
-            // Perform OCR
-            String extractedText = tesseract.doOCR(image);
+            // Perform OCR on a pooled engine
+            String extractedText = enginePool.recognize(image);
 
             log.info("Successfully extracted text from image: {} characters", extractedText.length());
             return extractedText;
@@ -59,6 +75,31 @@ public class OCRService {
         }
     }
 
+    /**
+     * OCR pages in parallel on the page executor and return their text in the
+     * order given. The source is called once per page, from several threads at
+     * once.
+     */
+    public List<String> extractTextFromPages(List<Integer> pages, PageSource source) throws IOException {
+        List<CompletableFuture<String>> results = pages.stream()
+                .map(page -> CompletableFuture.supplyAsync(() -> recognizePage(page, source), pageExecutor))
+                .toList();
+
+        List<String> texts = new ArrayList<>(pages.size());
+        try {
+            for (CompletableFuture<String> result : results) {
+                texts.add(result.join());
+            }
+        } catch (CompletionException e) {
+            results.forEach(result -> result.cancel(true));
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        return texts;
+    }
+
     /**
      * Check if file is an image
      */
@@ -69,4 +110,76 @@ public class OCRService {
                 contentType.equals("image/bmp") ||
                 contentType.equals("image/tiff"));
     }
+
+    /**
+     * OCR each page of a TIFF, which may be a multi-page scan, through the
+     * page-parallel pipeline. The upload is spooled to disk so each page can
+     * be decoded on its own.
+     */
+    private String extractTextFromTiff(MultipartFile imageFile) {
+        Path spooled = null;
+        try {
+            spooled = Files.createTempFile("resume-", ".tiff");
+            try (InputStream in = imageFile.getInputStream()) {
+                Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            int frames = preprocessor.countImages(spooled);
+            if (frames == 0) {
+                throw new InvalidFileException("Invalid image file");
+            }
+            if (frames > maxTiffPages) {
+                log.info("OCR of TIFF limited to {} of {} pages", maxTiffPages, frames);
+            }
+
+            Path file = spooled;
+            List<Integer> pages = IntStream.rangeClosed(1, Math.min(frames, maxTiffPages)).boxed().toList();
+            String extractedText = extractTextFromPages(pages, page -> preprocessor.decode(file, page - 1))
+                    .stream()
+                    .collect(Collectors.joining("\n"));
+
+            log.info("Successfully extracted text from {} TIFF pages: {} characters",
+                    pages.size(), extractedText.length());
+            return extractedText;
+
+        } catch (IOException e) {
+            log.error("Failed to read image file", e);
+            throw new InvalidFileException("Failed to read image file: " + e.getMessage());
+        } finally {
+            deleteQuietly(spooled);
+        }
+    }
+
+    private String recognizePage(int page, PageSource source) {
+        try {
+            BufferedImage image = source.load(page);
+            if (image == null) {
+                throw new IOException("Page " + page + " is not a readable image");
+            }
+            return enginePool.recognize(preprocessor.prepare(image));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (TesseractException e) {
+            throw new UncheckedIOException(new IOException("Failed to extract text from page " + page, e));
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the image of a page, numbered from 1
+     */
+    @FunctionalInterface
+    public interface PageSource {
+        BufferedImage load(int page) throws IOException;
+    }
 }
@@ -0,0 +1,269 @@
+package com.hireready.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Extracts text from uploaded PDFs without holding the file on the heap.
+ *
+ * The upload is streamed to a temp file and opened through PDFBox's buffered
+ * file reader, with stream caches spilled to temp files rather than memory.
+ * Text is read page by page up to a page cap and stops once the character cap
+ * is reached, since a resume's useful content is at the front. The number of
+ * documents open at once is bounded so concurrent large uploads queue instead
+ * of growing the heap.
+ *
+ * Documents with enough pages are split into page ranges stripped in parallel
+ * on the PDF extraction pool. A PDDocument is not thread safe, so each range
+ * past the first opens its own handle on the spooled file; the text is joined
+ * in page order. Extraction time is recorded per mode, so the threshold can be
+ * tuned against what each path actually costs.
+ *
+ * Scanned pages have no text layer. Pages that yield almost no text are
+ * rendered at the OCR resolution and read through {@link OCRService}, in
+ * parallel and each from its own handle, and their text takes the page's
+ * place. If OCR fails, e.g. Tesseract is unavailable or busy, those pages keep
+ * their stripped text; the failure only surfaces when no page has any text.
+ */
+@Slf4j
+@Component
+public class PdfTextExtractor {
+
+    private final Semaphore permits;
+    private final ForkJoinPool pool;
+    private final OCRService ocrService;
+    private final Timer sequentialTimer;
+    private final Timer parallelTimer;
+    private final Counter ocrFailures;
+
+    @Value("${resume.pdf.max.pages:10}")
+    private int maxPages;
+
+    @Value("${resume.pdf.max.chars:50000}")
+    private int maxChars;
+
+    @Value("${resume.pdf.acquire.timeout.ms:30000}")
+    private long acquireTimeoutMs;
+
+    @Value("${resume.pdf.parallel.enabled:true}")
+    private boolean parallelEnabled;
+
+    @Value("${resume.pdf.parallel.min.pages:8}")
+    private int parallelMinPages;
+
+    @Value("${resume.pdf.parallel.pages.per.range:4}")
+    private int pagesPerRange;
+
+    @Value("${resume.pdf.ocr.enabled:true}")
+    private boolean ocrEnabled;
+
+    @Value("${resume.pdf.ocr.min.chars.per.page:20}")
+    private int ocrMinCharsPerPage;
+
+    @Value("${resume.pdf.ocr.max.pages:5}")
+    private int ocrMaxPages;
+
+    @Value("${resume.pdf.ocr.dpi:300}")
+    private int ocrDpi;
+
+    public PdfTextExtractor(@Value("${resume.pdf.max.concurrent:4}") int maxConcurrent,
+            @Qualifier("pdfExtractionPool") ForkJoinPool pool,
+            OCRService ocrService,
+            MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.pool = pool;
+        this.ocrService = ocrService;
+        this.sequentialTimer = extractionTimer(meterRegistry, "sequential");
+        this.parallelTimer = extractionTimer(meterRegistry, "parallel");
+        this.ocrFailures = Counter.builder("resume.pdf.ocr.failures")
+                .description("PDFs whose scanned pages could not be OCRed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Extract the text of the uploaded PDF, within the page and character caps
+     */
+    public String extract(MultipartFile file) throws IOException {
+        acquire();
+        Path spooled = Files.createTempFile("resume-", ".pdf");
+        try {
+            try (InputStream in = file.getInputStream()) {
+                Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return extract(spooled);
+        } finally {
+            Files.deleteIfExists(spooled);
+            permits.release();
+        }
+    }
+
+    private String extract(Path pdf) throws IOException {
+        try (PDDocument document = open(pdf)) {
+            int totalPages = document.getNumberOfPages();
+            int pages = Math.min(totalPages, maxPages);
+
+            long start = System.nanoTime();
+            boolean parallel = parallelEnabled && pages >= parallelMinPages && pages > pagesPerRange;
+            List<String> pageTexts = parallel ? stripInParallel(pdf, document, pages) : strip(document, 1, pages);
+            (parallel ? parallelTimer : sequentialTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if (ocrEnabled) {
+                ocrScannedPages(pdf, pageTexts);
+            }
+
+            String text = String.join("", pageTexts);
+            if (totalPages > pages || text.length() > maxChars) {
+                log.info("Truncated PDF text extraction at {} of {} pages, {} characters",
+                        pages, totalPages, Math.min(text.length(), maxChars));
+            }
+            return text.length() > maxChars ? text.substring(0, maxChars) : text;
+        }
+    }
+
+    /**
+     * Strip the first range with the document already open and the rest on
+     * the pool, each with its own handle, then join them in page order
+     */
+    private List<String> stripInParallel(Path pdf, PDDocument document, int pages) throws IOException {
+        List<ForkJoinTask<List<String>>> ranges = new ArrayList<>();
+        for (int from = pagesPerRange + 1; from <= pages; from += pagesPerRange) {
+            int first = from;
+            int last = Math.min(from + pagesPerRange - 1, pages);
+            ranges.add(pool.submit(() -> {
+                try (PDDocument handle = open(pdf)) {
+                    return strip(handle, first, last);
+                }
+            }));
+        }
+
+        List<String> pageTexts = new ArrayList<>(strip(document, 1, pagesPerRange));
+        try {
+            for (int i = 0; i < ranges.size(); i++) {
+                // A range cut short by the character cap ends the text, and
+                // keeps list positions matching page numbers
+                if (pageTexts.size() < pagesPerRange * (i + 1)) {
+                    break;
+                }
+                pageTexts.addAll(ranges.get(i).get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while extracting PDF text", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        } finally {
+            ranges.forEach(range -> range.cancel(true));
+        }
+        return pageTexts;
+    }
+
+    /**
+     * Strip the given pages one at a time, stopping once the character cap is
+     * reached. Returns the text of each page stripped, in order.
+     */
+    private List<String> strip(PDDocument document, int firstPage, int lastPage) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        List<String> pageTexts = new ArrayList<>();
+        int length = 0;
+        for (int page = firstPage; page <= lastPage && length < maxChars; page++) {
+            stripper.setStartPage(page);
+            stripper.setEndPage(page);
+            String text = stripper.getText(document);
+            pageTexts.add(text);
+            length += text.length();
+        }
+        return pageTexts;
+    }
+
+    /**
+     * Replace the text of pages with next to no text layer, up to the OCR page
+     * cap, with the OCR of the rendered page. A failed OCR keeps the stripped
+     * text, and is rethrown only if no page has any text to fall back on.
+     */
+    private void ocrScannedPages(Path pdf, List<String> pageTexts) throws IOException {
+        List<Integer> scanned = IntStream.range(0, pageTexts.size())
+                .filter(index -> pageTexts.get(index).strip().length() < ocrMinCharsPerPage)
+                .limit(ocrMaxPages)
+                .mapToObj(index -> index + 1)
+                .toList();
+        if (scanned.isEmpty()) {
+            return;
+        }
+
+        List<String> recognized;
+        try {
+            recognized = ocrService.extractTextFromPages(scanned, page -> render(pdf, page));
+        } catch (IOException | RuntimeException e) {
+            ocrFailures.increment();
+            if (pageTexts.stream().allMatch(String::isBlank)) {
+                throw e;
+            }
+            log.warn("OCR of {} near-empty PDF pages failed; keeping their stripped text: {}",
+                    scanned.size(), e.getMessage());
+            return;
+        }
+        for (int i = 0; i < scanned.size(); i++) {
+            pageTexts.set(scanned.get(i) - 1, recognized.get(i) + "\n");
+        }
+        log.info("Read {} of {} PDF pages with OCR for lack of a text layer", scanned.size(), pageTexts.size());
+    }
+
+    /**
+     * Render a page, numbered from 1, from its own handle so pages can be
+     * rendered in parallel
+     */
+    private BufferedImage render(Path pdf, int page) throws IOException {
+        try (PDDocument handle = open(pdf)) {
+            return new PDFRenderer(handle).renderImageWithDPI(page - 1, ocrDpi, ImageType.GRAY);
+        }
+    }
+
+    private static PDDocument open(Path pdf) throws IOException {
+        return Loader.loadPDF(pdf.toFile(), IOUtils.createTempFileOnlyStreamCache());
+    }
+
+    private void acquire() throws IOException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IOException("Too many documents are being processed; please try again shortly");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to process the document", e);
+        }
+    }
+
+    private static Timer extractionTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("resume.pdf.extraction")
+                .description("Time spent stripping text from a PDF")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,183 @@
+package com.hireready.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed (radix) trie of suggestion terms ranked by popularity. Every
+ * term is indexed under each of its word suffixes, so "eng" matches
+ * "Senior Software Engineer". Each node keeps the top-ranked terms of its
+ * subtree, which makes a lookup a walk down the prefix with no subtree scan.
+ * Scores only ever grow, so the per-node rankings stay exact as terms are
+ * added.
+ */
+public class PrefixTrie {
+
+    private static final int MAX_TERM_LENGTH = 100;
+
+    private static final Comparator<Term> RANKING = Comparator
+            .comparingLong((Term term) -> term.score).reversed()
+            .thenComparing(term -> term.value);
+
+    private final int topK;
+    private final Node root = new Node("");
+    private final Map<String, Term> terms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PrefixTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * Add a term, or raise its popularity by the given weight if already known
+     */
+    public void add(String value, long weight) {
+        if (value == null) {
+            return;
+        }
+        String display = value.trim().replaceAll("\\s+", " ");
+        String normalized = SuggestionCache.normalize(display);
+        if (normalized.isEmpty() || normalized.length() > MAX_TERM_LENGTH) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Term term = terms.computeIfAbsent(normalized, key -> new Term(display));
+            term.score += weight;
+
+            String[] words = normalized.split(" ");
+            for (int i = 0; i < words.length; i++) {
+                insert(String.join(" ", Arrays.copyOfRange(words, i, words.length)), term);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Most popular terms containing a word that starts with the given prefix
+     */
+    public List<String> lookup(String prefix, int limit) {
+        String remaining = SuggestionCache.normalize(prefix);
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            while (!remaining.isEmpty()) {
+                Node child = node.children.get(remaining.charAt(0));
+                if (child == null) {
+                    return List.of();
+                }
+                if (child.label.startsWith(remaining)) {
+                    node = child;
+                    break;
+                }
+                if (!remaining.startsWith(child.label)) {
+                    return List.of();
+                }
+                remaining = remaining.substring(child.label.length());
+                node = child;
+            }
+
+            List<String> result = new ArrayList<>(Math.min(limit, node.top.size()));
+            for (Term term : node.top) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                result.add(term.value);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(String key, Term term) {
+        Node node = root;
+        rank(node, term);
+        String remaining = key;
+
+        while (!remaining.isEmpty()) {
+            Node child = node.children.get(remaining.charAt(0));
+            if (child == null) {
+                Node leaf = new Node(remaining);
+                node.children.put(remaining.charAt(0), leaf);
+                rank(leaf, term);
+                return;
+            }
+
+            int common = commonPrefixLength(child.label, remaining);
+            if (common < child.label.length()) {
+                // Split the edge; the new node covers exactly the old child's subtree
+                Node split = new Node(child.label.substring(0, common));
+                split.top.addAll(child.top);
+                child.label = child.label.substring(common);
+                split.children.put(child.label.charAt(0), child);
+                node.children.put(split.label.charAt(0), split);
+                child = split;
+            }
+
+            rank(child, term);
+            remaining = remaining.substring(common);
+            node = child;
+        }
+    }
+
+    private void rank(Node node, Term term) {
+        List<Term> top = node.top;
+        if (!top.contains(term)) {
+            if (top.size() < topK) {
+                top.add(term);
+            } else if (RANKING.compare(term, top.get(top.size() - 1)) < 0) {
+                top.set(top.size() - 1, term);
+            } else {
+                return;
+            }
+        }
+        top.sort(RANKING);
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Term> top = new ArrayList<>(2);
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private static class Term {
+        private final String value;
+        private long score;
+
+        Term(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.hireready.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hireready.model.InterviewSchedule;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Pre-generates the next live interview question while the candidate is still
+ * answering the current one, so the LLM latency overlaps their answer instead
+ * of following it.
+ *
+ * The speculative question is generated from the history as it stands when a
+ * question is served, i.e. without the answer, so by default it only runs for
+ * rounds configured as answer-independent (e.g. APTITUDE). Other rounds build
+ * each question on the previous answer and only speculate when enabled per
+ * round with {@code interview.speculation.enabled.<ROUND>=true}; even then the
+ * question after the introduction is not speculated, and a speculation is used
+ * only if the answer's word count is inside the round's tolerance, neither a
+ * non-answer nor a long answer worth probing. Nothing is speculated past the
+ * last question of the interview. Hits, discards and the estimated tokens spent
+ * on discarded questions are counted per round type.
+ */
+@Slf4j
+@Component
+public class QuestionSpeculator {
+
+    private static final String PREFIX = "interview.speculation.";
+
+    private final AIService aiService;
+    private final ResumeDigester resumeDigester;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Speculation> speculations;
+    private final Set<String> answerIndependentRounds;
+
+    @Value("${interview.speculation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${interview.speculation.answer.min.words:15}")
+    private int defaultMinWords;
+
+    @Value("${interview.speculation.answer.max.words:150}")
+    private int defaultMaxWords;
+
+    @Value("${interview.live.questions:10}")
+    private int questionsPerInterview;
+
+    public QuestionSpeculator(AIService aiService, ResumeDigester resumeDigester, Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${interview.speculation.ttl.minutes:15}") long ttlMinutes,
+            @Value("${interview.speculation.answer.independent.rounds:APTITUDE}") String answerIndependentRounds) {
+        this.aiService = aiService;
+        this.resumeDigester = resumeDigester;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.answerIndependentRounds = Arrays.stream(answerIndependentRounds.split(","))
+                .map(round -> round.trim().toUpperCase(Locale.ROOT))
+                .filter(round -> !round.isEmpty())
+                .collect(Collectors.toSet());
+        // Abandoned sessions never claim their speculation; let it age out
+        this.speculations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .<String, Speculation>removalListener((sessionId, speculation, cause) -> {
+                    if (speculation != null && cause.wasEvicted()) {
+                        waste(speculation, "expired");
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Start generating the question that follows the one just served, replacing
+     * any earlier speculation for the session
+     */
+    public void speculate(String sessionId, InterviewSchedule schedule, int questionNumber,
+            String conversationHistory, String servedQuestion) {
+        if (questionNumber > questionsPerInterview || !isEnabled(schedule.getRoundType())) {
+            return;
+        }
+        if (questionNumber == 2 && !isAnswerIndependent(schedule.getRoundType())) {
+            // The first real question follows up on the candidate's introduction
+            return;
+        }
+
+        String history = conversationHistory.isEmpty()
+                ? "Q: " + servedQuestion
+                : conversationHistory + "\nQ: " + servedQuestion;
+        String resumeContext = resumeDigester.promptContext(schedule);
+        int promptTokens = ConversationHistoryManager.estimateTokens(aiService.buildInterviewQuestionPrompt(
+                schedule.getCompany(), schedule.getPosition(), schedule.getRoundType(), schedule.getDifficulty(),
+                questionNumber, history, resumeContext));
+
+        CompletableFuture<String> question = aiService.speculateInterviewQuestionAsync(
+                schedule.getCompany(),
+                schedule.getPosition(),
+                schedule.getRoundType(),
+                schedule.getDifficulty(),
+                questionNumber,
+                history,
+                resumeContext);
+
+        Speculation previous = speculations.asMap().put(sessionId,
+                new Speculation(questionNumber, roundTag(schedule.getRoundType()), promptTokens, question));
+        if (previous != null) {
+            waste(previous, "superseded");
+        }
+    }
+
+    /**
+     * Take the speculative question for this turn if it is still relevant to the
+     * answer that was given; otherwise discard it. Returns null when there is
+     * nothing to use.
+     */
+    public CompletableFuture<String> claim(String sessionId, int questionNumber, String roundType, String answer) {
+        Speculation speculation = speculations.asMap().remove(sessionId);
+        if (speculation == null) {
+            return null;
+        }
+        if (speculation.questionNumber() != questionNumber || speculation.question().isCompletedExceptionally()) {
+            waste(speculation, "stale");
+            return null;
+        }
+        if (!isRelevant(roundType, answer)) {
+            waste(speculation, "discarded");
+            return null;
+        }
+
+        record(speculation, "hit");
+        log.debug("Using speculative question #{} for session: {}", questionNumber, sessionId);
+        return speculation.question();
+    }
+
+    /**
+     * Drop any speculation for a session that is ending
+     */
+    public void discard(String sessionId) {
+        Speculation speculation = speculations.asMap().remove(sessionId);
+        if (speculation != null) {
+            waste(speculation, "discarded");
+        }
+    }
+
+    private boolean isRelevant(String roundType, String answer) {
+        if (isAnswerIndependent(roundType)) {
+            return true;
+        }
+        if (answer == null || answer.isBlank()) {
+            // The speculation was generated without an answer, which is exactly this turn
+            return true;
+        }
+        int words = answer.trim().split("\\s+").length;
+        return words >= roundSetting(roundType, "answer.min.words", defaultMinWords)
+                && words <= roundSetting(roundType, "answer.max.words", defaultMaxWords);
+    }
+
+    private boolean isEnabled(String roundType) {
+        if (!enabled || roundType == null) {
+            return false;
+        }
+        return environment.getProperty(PREFIX + "enabled." + roundType.toUpperCase(Locale.ROOT), Boolean.class,
+                isAnswerIndependent(roundType));
+    }
+
+    private boolean isAnswerIndependent(String roundType) {
+        return roundType != null && answerIndependentRounds.contains(roundType.toUpperCase(Locale.ROOT));
+    }
+
+    private int roundSetting(String roundType, String name, int defaultValue) {
+        if (roundType == null) {
+            return defaultValue;
+        }
+        return environment.getProperty(PREFIX + name + "." + roundType.toUpperCase(Locale.ROOT), Integer.class,
+                defaultValue);
+    }
+
+    /**
+     * Cancel an unused speculation and count what it cost: the prompt once it
+     * was sent, plus the question if one came back
+     */
+    private void waste(Speculation speculation, String outcome) {
+        record(speculation, outcome);
+        CompletableFuture<String> question = speculation.question();
+        question.cancel(true);
+
+        int tokens = speculation.promptTokens();
+        if (question.isDone() && !question.isCompletedExceptionally()) {
+            tokens += ConversationHistoryManager.estimateTokens(question.join());
+        }
+        meterRegistry.counter("interview.speculation.wasted.tokens", "round", speculation.round())
+                .increment(tokens);
+    }
+
+    private void record(Speculation speculation, String outcome) {
+        meterRegistry.counter("interview.speculation", "round", speculation.round(), "outcome", outcome)
+                .increment();
+    }
+
+    private static String roundTag(String roundType) {
+        return roundType != null ? roundType.toUpperCase(Locale.ROOT) : "UNKNOWN";
+    }
+
+    private record Speculation(int questionNumber, String round, int promptTokens,
+            CompletableFuture<String> question) {
+    }
+}
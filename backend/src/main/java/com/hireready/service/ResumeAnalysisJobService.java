@@ -0,0 +1,446 @@
+package com.hireready.service;
+
+import com.hireready.dto.ResumeAnalysisJobStatus;
+import com.hireready.exception.InvalidFileException;
+import com.hireready.model.Resume;
+import com.hireready.model.ResumeAnalysisJob;
+import com.hireready.repository.ResumeAnalysisJobRepository;
+import com.hireready.service.ResumeService.ExtractedResume;
+import com.hireready.service.ResumeService.PendingAnalysis;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/**
+ * Runs resume analyses as background jobs, so the upload request returns as
+ * soon as the file is accepted rather than after extraction, OCR and the AI
+ * calls.
+ *
+ * A submitted upload is spooled to disk and recorded as a job, then processed
+ * on the bounded resume job executor through the stages extracting, parsing,
+ * scoring and saving. The job is checkpointed after each stage: the extracted
+ * text and hashes, then each AI result as it arrives. A job whose worker died,
+ * e.g. in a restart, is picked up by a periodic sweep once its lease runs out
+ * and resumes after its last checkpoint; the resume is saved under the job's
+ * id, so repeating the last stage does not create a second one. The upload
+ * spool must be on disk that outlives the process for a job to be resumed
+ * before its text is extracted.
+ *
+ * Submitting is idempotent: a retry with the same Idempotency-Key, or without
+ * one the same file for the same user and role, returns the existing job
+ * unless it failed, in which case it runs again from its checkpoints, or the
+ * resume it produced has since been deleted, in which case it runs afresh.
+ * Progress is pushed to subscribers on this node.
+ */
+@Slf4j
+@Service
+public class ResumeAnalysisJobService {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String RUNNING = "RUNNING";
+    public static final String SUCCEEDED = "SUCCEEDED";
+    public static final String FAILED = "FAILED";
+
+    private static final String STAGE_EXTRACTING = "extracting";
+    private static final String STAGE_PARSING = "parsing";
+    private static final String STAGE_SCORING = "scoring";
+    private static final String STAGE_SAVING = "saving";
+
+    private final ResumeAnalysisJobRepository jobRepository;
+    private final ResumeService resumeService;
+    private final TaskExecutor jobExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Path spoolDir;
+    private final Set<String> active = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Consumer<ResumeAnalysisJobStatus>>> listeners = new ConcurrentHashMap<>();
+    private final Counter recovered;
+    private final Counter rejected;
+
+    @Value("${resume.jobs.max.attempts:3}")
+    private int maxAttempts;
+
+    @Value("${resume.jobs.requeue.after.seconds:30}")
+    private long requeueAfterSeconds;
+
+    @Value("${resume.jobs.lease.seconds:180}")
+    private long leaseSeconds;
+
+    public ResumeAnalysisJobService(ResumeAnalysisJobRepository jobRepository, ResumeService resumeService,
+            @Qualifier("resumeJobExecutor") TaskExecutor jobExecutor, MeterRegistry meterRegistry,
+            @Value("${resume.jobs.spool.dir:${java.io.tmpdir}/hireready-resume-jobs}") String spoolDir)
+            throws IOException {
+        this.jobRepository = jobRepository;
+        this.resumeService = resumeService;
+        this.jobExecutor = jobExecutor;
+        this.meterRegistry = meterRegistry;
+        this.spoolDir = Files.createDirectories(Path.of(spoolDir));
+        this.recovered = Counter.builder("resume.jobs.recovered")
+                .description("Resume analysis jobs picked up again after their worker stopped")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("resume.jobs.rejected")
+                .description("Resume analysis jobs left queued because the executor was full")
+                .register(meterRegistry);
+        meterRegistry.gauge("resume.jobs.active", active, Set::size);
+    }
+
+    /**
+     * Accept an upload for analysis and start processing it, or return the
+     * job already accepted for the same upload
+     */
+    public ResumeAnalysisJob submit(String userId, MultipartFile file, String targetRole, String idempotencyKey) {
+        String role = ResumeService.roleOrDefault(targetRole);
+        String key = userId + ":" + (idempotencyKey != null && !idempotencyKey.isBlank()
+                ? idempotencyKey.trim()
+                : resumeService.fileHash(file, role));
+
+        ResumeAnalysisJob existing = jobRepository.findByIdempotencyKey(key).orElse(null);
+        boolean resumeDeleted = existing != null && SUCCEEDED.equals(existing.getStatus())
+                && !resumeService.resumeExists(existing.getResumeId());
+        if (existing != null && !FAILED.equals(existing.getStatus()) && !resumeDeleted) {
+            log.info("Returning existing resume analysis job {} for repeated submission", existing.getId());
+            return existing;
+        }
+
+        Path spooled = spool(file);
+        ResumeAnalysisJob job = existing != null ? existing : new ResumeAnalysisJob();
+        LocalDateTime now = LocalDateTime.now();
+        job.setUserId(userId);
+        job.setIdempotencyKey(key);
+        job.setTargetRole(role);
+        job.setFileName(file.getOriginalFilename());
+        job.setContentType(file.getContentType());
+        job.setSpoolPath(spooled.toString());
+        job.setStatus(QUEUED);
+        job.setStage(null);
+        job.setAttempts(0);
+        job.setError(null);
+        job.setCompletedAt(null);
+        job.setUpdatedAt(now);
+        if (job.getCreatedAt() == null) {
+            job.setCreatedAt(now);
+        }
+        if (resumeDeleted) {
+            // The user deleted what this job produced; analyze the upload as new
+            log.info("Resume {} of job {} was deleted; analyzing the upload again", job.getResumeId(), job.getId());
+            clearCheckpoints(job);
+        }
+
+        try {
+            job = jobRepository.save(job);
+        } catch (DuplicateKeyException | OptimisticLockingFailureException e) {
+            // A concurrent retry of the same upload got there first
+            deleteQuietly(spooled);
+            return jobRepository.findByIdempotencyKey(key).orElseThrow(() -> e);
+        }
+
+        log.info("Accepted resume analysis job {} for user: {}", job.getId(), userId);
+        dispatch(job.getId());
+        return job;
+    }
+
+    public ResumeAnalysisJob getJob(String jobId) {
+        return jobRepository.findById(jobId).orElse(null);
+    }
+
+    /**
+     * Receive the job's status each time it changes on this node, until the
+     * returned handle is run
+     */
+    public Runnable subscribe(String jobId, Consumer<ResumeAnalysisJobStatus> listener) {
+        listeners.computeIfAbsent(jobId, id -> new CopyOnWriteArraySet<>()).add(listener);
+        return () -> listeners.computeIfPresent(jobId, (id, subscribers) -> {
+            subscribers.remove(listener);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    public static boolean isFinished(String status) {
+        return SUCCEEDED.equals(status) || FAILED.equals(status);
+    }
+
+    /**
+     * Pick up jobs that are queued but not running here, e.g. after a restart
+     * or a full executor, and running jobs whose worker stopped renewing them
+     */
+    @Scheduled(fixedDelayString = "${resume.jobs.recovery.interval.ms:30000}",
+            initialDelayString = "${resume.jobs.recovery.initial.delay.ms:10000}")
+    void resumePendingJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ResumeAnalysisJob> pending = jobRepository.findByStatusInAndUpdatedAtBefore(
+                List.of(QUEUED, RUNNING), now.minusSeconds(requeueAfterSeconds));
+
+        for (ResumeAnalysisJob job : pending) {
+            if (active.contains(job.getId())) {
+                continue;
+            }
+            if (RUNNING.equals(job.getStatus()) && job.getUpdatedAt().isAfter(now.minusSeconds(leaseSeconds))) {
+                // Still within the lease of a worker on another node
+                continue;
+            }
+            recovered.increment();
+            log.info("Resuming resume analysis job {} from stage {}", job.getId(), job.getStage());
+            dispatch(job.getId());
+        }
+    }
+
+    private void dispatch(String jobId) {
+        if (!active.add(jobId)) {
+            return;
+        }
+        try {
+            jobExecutor.execute(() -> {
+                try {
+                    process(jobId);
+                } finally {
+                    active.remove(jobId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            active.remove(jobId);
+            rejected.increment();
+            log.warn("Resume job executor is full; job {} stays queued", jobId);
+        }
+    }
+
+    private void process(String jobId) {
+        ResumeAnalysisJob job = claim(jobId);
+        if (job == null) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            run(job);
+            outcome = "success";
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Resume analysis job {} was taken over by another worker", jobId);
+            outcome = "superseded";
+        } catch (Exception e) {
+            log.error("Resume analysis job {} failed", jobId, e);
+            fail(jobId, e);
+        } finally {
+            sample.stop(Timer.builder("resume.jobs.duration")
+                    .description("Time spent processing one resume analysis job")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void run(ResumeAnalysisJob job) {
+        String role = ResumeService.roleOrDefault(job.getTargetRole());
+
+        if (job.getExtractedText() == null && job.getReusedResumeId() == null) {
+            job = checkpoint(job, STAGE_EXTRACTING);
+            Path spooled = job.getSpoolPath() != null ? Path.of(job.getSpoolPath()) : null;
+            if (spooled == null || !Files.exists(spooled)) {
+                throw new InvalidFileException("The uploaded file is no longer available; please upload it again");
+            }
+
+            ExtractedResume extracted = resumeService.extractOrReuse(
+                    new SpooledMultipartFile(spooled, job.getFileName(), job.getContentType()), role);
+            job.setFileType(extracted.fileType());
+            job.setExtractedText(extracted.text());
+            job.setFileHash(extracted.fileHash());
+            job.setAnalysisHash(extracted.analysisHash());
+            job.setReusedResumeId(extracted.previous() != null ? extracted.previous().getId() : null);
+            job.setSpoolPath(null);
+            job = checkpoint(job, extracted.previous() != null ? STAGE_SAVING : STAGE_PARSING);
+            deleteQuietly(spooled);
+        }
+
+        if (job.getReusedResumeId() != null) {
+            Resume previous = resumeService.getResumeById(job.getReusedResumeId());
+            if (previous != null) {
+                job = checkpoint(job, STAGE_SAVING);
+                complete(job, resumeService.reuseAnalysis(job.getUserId(), extracted(job, previous), job.getId()));
+                return;
+            }
+            // The earlier analysis has since been deleted; analyze afresh
+            job.setReusedResumeId(null);
+        }
+
+        job = checkpoint(job, job.getParseResult() == null ? STAGE_PARSING : STAGE_SCORING);
+        PendingAnalysis pending = resumeService.analyzeRemaining(job.getExtractedText(), role,
+                job.getParseResult(), job.getAtsResult());
+        try {
+            if (job.getParseResult() == null) {
+                job.setParseResult(await(pending.parseResult()));
+                job = checkpoint(job, STAGE_SCORING);
+            }
+            if (job.getAtsResult() == null) {
+                job.setAtsResult(await(pending.atsResult()));
+            }
+        } finally {
+            pending.parseResult().cancel(true);
+            pending.atsResult().cancel(true);
+        }
+
+        job = checkpoint(job, STAGE_SAVING);
+        complete(job, resumeService.saveAnalysis(job.getUserId(), extracted(job, null),
+                job.getParseResult(), job.getAtsResult(), job.getId()));
+    }
+
+    /**
+     * Take the job for this worker. Returns null if it is finished or another
+     * worker claimed it first.
+     */
+    private ResumeAnalysisJob claim(String jobId) {
+        ResumeAnalysisJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || isFinished(job.getStatus())) {
+            return null;
+        }
+        int attempts = job.getAttempts() != null ? job.getAttempts() : 0;
+        if (attempts >= maxAttempts) {
+            fail(jobId, new IllegalStateException("Analysis did not complete after " + attempts + " attempts"));
+            return null;
+        }
+
+        job.setStatus(RUNNING);
+        job.setAttempts(attempts + 1);
+        job.setUpdatedAt(LocalDateTime.now());
+        try {
+            job = jobRepository.save(job);
+        } catch (OptimisticLockingFailureException e) {
+            return null;
+        }
+        publish(job);
+        return job;
+    }
+
+    /**
+     * Record the job's progress, which also renews its lease
+     */
+    private ResumeAnalysisJob checkpoint(ResumeAnalysisJob job, String stage) {
+        job.setStage(stage);
+        job.setUpdatedAt(LocalDateTime.now());
+        ResumeAnalysisJob saved = jobRepository.save(job);
+        publish(saved);
+        return saved;
+    }
+
+    private void complete(ResumeAnalysisJob job, Resume resume) {
+        job.setStatus(SUCCEEDED);
+        job.setResumeId(resume.getId());
+        job.setCompletedAt(LocalDateTime.now());
+        job = checkpoint(job, null);
+        log.info("Resume analysis job {} completed with resume {}", job.getId(), resume.getId());
+    }
+
+    /**
+     * Mark the job failed on a fresh copy, so it is recorded even if the
+     * worker's copy is stale
+     */
+    private void fail(String jobId, Exception cause) {
+        try {
+            ResumeAnalysisJob job = jobRepository.findById(jobId).orElse(null);
+            if (job == null || isFinished(job.getStatus())) {
+                return;
+            }
+            if (STAGE_SAVING.equals(job.getStage())) {
+                // The AI results may be what failed to save; ask again on retry
+                job.setParseResult(null);
+                job.setAtsResult(null);
+            }
+            if (job.getSpoolPath() != null) {
+                deleteQuietly(Path.of(job.getSpoolPath()));
+                job.setSpoolPath(null);
+            }
+            job.setStatus(FAILED);
+            job.setError(cause.getMessage());
+            job.setCompletedAt(LocalDateTime.now());
+            job.setUpdatedAt(LocalDateTime.now());
+            publish(jobRepository.save(job));
+        } catch (Exception e) {
+            log.error("Failed to record failure of resume analysis job {}", jobId, e);
+        }
+    }
+
+    private void publish(ResumeAnalysisJob job) {
+        Set<Consumer<ResumeAnalysisJobStatus>> subscribers = listeners.get(job.getId());
+        if (subscribers == null) {
+            return;
+        }
+        ResumeAnalysisJobStatus status = ResumeAnalysisJobStatus.of(job);
+        for (Consumer<ResumeAnalysisJobStatus> subscriber : subscribers) {
+            try {
+                subscriber.accept(status);
+            } catch (Exception e) {
+                log.warn("Failed to notify subscriber of resume analysis job {}: {}", job.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private static void clearCheckpoints(ResumeAnalysisJob job) {
+        job.setFileType(null);
+        job.setExtractedText(null);
+        job.setFileHash(null);
+        job.setAnalysisHash(null);
+        job.setReusedResumeId(null);
+        job.setParseResult(null);
+        job.setAtsResult(null);
+        job.setResumeId(null);
+    }
+
+    private static ExtractedResume extracted(ResumeAnalysisJob job, Resume previous) {
+        return new ExtractedResume(job.getFileName(), job.getFileType(), job.getExtractedText(),
+                job.getFileHash(), job.getAnalysisHash(), previous);
+    }
+
+    private static String await(CompletableFuture<String> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private Path spool(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new InvalidFileException("File is empty");
+        }
+        try {
+            Path spooled = Files.createTempFile(spoolDir, "upload-", ".bin");
+            try (InputStream in = file.getInputStream()) {
+                Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return spooled;
+        } catch (IOException e) {
+            log.error("Failed to store resume upload", e);
+            throw new InvalidFileException("Failed to process resume file: " + e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled upload {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.hireready.service;
+
+import com.hireready.model.InterviewSchedule;
+import com.hireready.model.Resume;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the compact resume digest used in interview question prompts from a
+ * parsed resume: skills, experience, projects, education and achievements,
+ * each capped, and none of the contact details or layout that open the raw
+ * text. It is computed once when a resume is attached to a schedule, so each
+ * question prompt carries a few hundred characters of what the candidate has
+ * actually done.
+ */
+@Component
+public class ResumeDigester {
+
+    private static final int MAX_SKILLS = 20;
+    private static final int MAX_EXPERIENCES = 3;
+    private static final int MAX_PROJECTS = 3;
+    private static final int MAX_ACHIEVEMENTS = 3;
+    private static final int MAX_TECHNOLOGIES = 6;
+    private static final int DETAIL_WORDS = 18;
+
+    @Value("${interview.resume.digest.max.chars:1000}")
+    private int maxChars;
+
+    /**
+     * The digest of a parsed resume, or null if nothing was parsed from it
+     */
+    public String digest(Resume resume) {
+        List<String> sections = new ArrayList<>();
+
+        List<String> skills = present(resume.getSkills());
+        if (!skills.isEmpty()) {
+            sections.add("Skills: " + skills.stream().limit(MAX_SKILLS).collect(Collectors.joining(", ")));
+        }
+
+        List<String> experiences = resume.getExperiences() == null ? List.of() : resume.getExperiences().stream()
+                .filter(Objects::nonNull)
+                .limit(MAX_EXPERIENCES)
+                .map(this::describe)
+                .filter(line -> !line.isBlank())
+                .toList();
+        if (!experiences.isEmpty()) {
+            sections.add("Experience:\n" + bullets(experiences));
+        }
+
+        List<String> projects = resume.getProjects() == null ? List.of() : resume.getProjects().stream()
+                .filter(Objects::nonNull)
+                .limit(MAX_PROJECTS)
+                .map(this::describe)
+                .filter(line -> !line.isBlank())
+                .toList();
+        if (!projects.isEmpty()) {
+            sections.add("Projects:\n" + bullets(projects));
+        }
+
+        if (resume.getEducations() != null && !resume.getEducations().isEmpty()
+                && resume.getEducations().get(0) != null) {
+            String education = describe(resume.getEducations().get(0));
+            if (!education.isBlank()) {
+                sections.add("Education: " + education);
+            }
+        }
+
+        List<String> achievements = present(resume.getAchievements()).stream()
+                .limit(MAX_ACHIEVEMENTS)
+                .map(achievement -> firstWords(achievement, DETAIL_WORDS))
+                .toList();
+        if (!achievements.isEmpty()) {
+            sections.add("Achievements:\n" + bullets(achievements));
+        }
+
+        if (sections.isEmpty()) {
+            return null;
+        }
+        String digest = String.join("\n", sections);
+        return digest.length() > maxChars ? digest.substring(0, maxChars) + "..." : digest;
+    }
+
+    /**
+     * What to tell the question prompt about the candidate: the digest if the
+     * schedule has one, otherwise the raw resume text under the same cap
+     */
+    public String promptContext(InterviewSchedule schedule) {
+        if (schedule.getResumeDigest() != null) {
+            return schedule.getResumeDigest();
+        }
+        String text = schedule.getResumeText();
+        return text != null && text.length() > maxChars ? text.substring(0, maxChars) + "..." : text;
+    }
+
+    private String describe(Resume.Experience experience) {
+        String role = join(" at ", experience.getPosition(), experience.getCompany());
+        String line = withDuration(role, experience.getDuration());
+        List<String> responsibilities = present(experience.getResponsibilities());
+        return responsibilities.isEmpty()
+                ? line
+                : join(": ", line, firstWords(responsibilities.get(0), DETAIL_WORDS));
+    }
+
+    private String describe(Resume.Project project) {
+        String line = project.getName() != null ? project.getName().trim() : "";
+        List<String> technologies = present(project.getTechnologies());
+        if (!technologies.isEmpty()) {
+            line += " [" + technologies.stream().limit(MAX_TECHNOLOGIES).collect(Collectors.joining(", ")) + "]";
+        }
+        return join(": ", line.trim(), firstWords(project.getDescription(), DETAIL_WORDS));
+    }
+
+    private String describe(Resume.Education education) {
+        String degree = join(" in ", education.getDegree(), education.getField());
+        return withDuration(join(", ", degree, education.getInstitution()), education.getDuration());
+    }
+
+    private static String withDuration(String text, String duration) {
+        return duration == null || duration.isBlank() || text.isBlank() ? text : text + " (" + duration.trim() + ")";
+    }
+
+    private static String join(String separator, String first, String second) {
+        boolean hasFirst = first != null && !first.isBlank();
+        boolean hasSecond = second != null && !second.isBlank();
+        if (hasFirst && hasSecond) {
+            return first.trim() + separator + second.trim();
+        }
+        return hasFirst ? first.trim() : hasSecond ? second.trim() : "";
+    }
+
+    private static List<String> present(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().filter(value -> value != null && !value.isBlank()).map(String::trim).toList();
+    }
+
+    private static String bullets(List<String> lines) {
+        return lines.stream().map(line -> "- " + line).collect(Collectors.joining("\n"));
+    }
+
+    private static String firstWords(String text, int count) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        String[] words = text.trim().split("\\s+");
+        if (words.length <= count) {
+            return String.join(" ", words);
+        }
+        return Arrays.stream(words).limit(count).collect(Collectors.joining(" ")) + "...";
+    }
+}
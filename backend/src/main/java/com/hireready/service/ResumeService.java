@@ -1,44 +1,66 @@
 package com.hireready.service;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.JsonParseException;
+import com.hireready.dto.ai.AtsAnalysisResult;
+import com.hireready.dto.ai.ResumeParseResult;
 import com.hireready.exception.InvalidFileException;
 import com.hireready.model.Resume;
 import com.hireready.model.User;
 import com.hireready.repository.ResumeRepository;
 import com.hireready.repository.UserRepository;
+import com.hireready.service.ai.LlmJsonCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Service
 public class ResumeService {
 
+    private static final String DEFAULT_TARGET_ROLE = "Software Developer";
+
     private final ResumeRepository resumeRepository;
     private final UserRepository userRepository;
     private final AIService aiService;
     private final OCRService ocrService;
-    private final Gson gson;
+    private final MeterRegistry meterRegistry;
+    private final LlmJsonCodec llmJsonCodec;
+    private final PdfTextExtractor pdfTextExtractor;
+
+    /**
+     * How the parse and ATS analyses are requested: "concurrent" issues both
+     * calls in parallel, "combined" asks for the merged JSON in one call and
+     * "sequential" issues them one after the other
+     */
+    @Value("${resume.analysis.mode:concurrent}")
+    private String analysisMode;
 
     public ResumeService(ResumeRepository resumeRepository, UserRepository userRepository,
-            AIService aiService, OCRService ocrService) {
+            AIService aiService, OCRService ocrService, MeterRegistry meterRegistry, LlmJsonCodec llmJsonCodec,
+            PdfTextExtractor pdfTextExtractor) {
         this.resumeRepository = resumeRepository;
         this.userRepository = userRepository;
         this.aiService = aiService;
         this.ocrService = ocrService;
-        this.gson = new Gson();
+        this.meterRegistry = meterRegistry;
+        this.llmJsonCodec = llmJsonCodec;
+        this.pdfTextExtractor = pdfTextExtractor;
     }
 
     /**
@@ -48,263 +70,374 @@ public class ResumeService {
     public Resume analyzeResume(String userId, MultipartFile file, String targetRole) {
         log.info("Starting resume analysis for user: {}", userId);
 
-        // Validate file
-        if (file.isEmpty()) {
-            throw new InvalidFileException("File is empty");
+        String role = roleOrDefault(targetRole);
+        ExtractedResume extracted = extractOrReuse(file, role);
+        if (extracted.previous() != null) {
+            return reuseAnalysis(userId, extracted, null);
         }
 
-        String contentType = file.getContentType();
-        String fileName = file.getOriginalFilename();
-        String extractedText;
-        String fileType;
-
+        AnalysisResult result;
         try {
-            // Extract text based on file type
-            if (contentType != null && contentType.equals("application/pdf")) {
-                extractedText = extractTextFromPDF(file);
-                fileType = "PDF";
-            } else if (ocrService.isImageFile(contentType)) {
-                extractedText = ocrService.extractTextFromImage(file);
-                fileType = "IMAGE";
-            } else if (contentType != null && contentType.startsWith("text/")) {
-                extractedText = new String(file.getBytes());
-                fileType = "TEXT";
-            } else {
-                throw new InvalidFileException("Unsupported file type. Please upload PDF, Image, or Text file");
+            result = analyze(extracted.text(), role).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
+            throw e;
+        }
 
-            if (extractedText == null || extractedText.trim().isEmpty()) {
-                throw new InvalidFileException("Could not extract text from file");
-            }
+        return saveAnalysis(userId, extracted, result.parseResult(), result.atsResult(), null);
+    }
 
-            log.info("Extracted {} characters from resume", extractedText.length());
+    /**
+     * Analyze resume from uploaded file without holding the calling thread during
+     * the AI round trips. Text extraction still happens on the caller, while the
+     * multipart upload is guaranteed to be readable.
+     */
+    public CompletableFuture<Resume> analyzeResumeAsync(String userId, MultipartFile file, String targetRole) {
+        log.info("Starting async resume analysis for user: {}", userId);
 
-            // Parse resume using AI
-            String parseResult = aiService.parseResume(extractedText);
-            String cleanedParseResult = cleanJsonResponse(parseResult);
-            JsonObject parsedData = gson.fromJson(cleanedParseResult, JsonObject.class);
+        String role = roleOrDefault(targetRole);
+        ExtractedResume extracted = extractOrReuse(file, role);
+        if (extracted.previous() != null) {
+            return CompletableFuture.completedFuture(reuseAnalysis(userId, extracted, null));
+        }
 
-            // Analyze for ATS
-            String atsResult = aiService.analyzeResumeForATS(extractedText,
-                    targetRole != null ? targetRole : "Software Developer");
-            String cleanedAtsResult = cleanJsonResponse(atsResult);
-            JsonObject atsData = gson.fromJson(cleanedAtsResult, JsonObject.class);
+        return analyze(extracted.text(), role)
+                .thenApply(result -> saveAnalysis(userId, extracted, result.parseResult(), result.atsResult(),
+                        null));
+    }
 
-            // Create Resume entity
-            Resume resume = new Resume();
-            resume.setUserId(userId);
-            resume.setFileName(fileName);
-            resume.setFileType(fileType);
-            resume.setOriginalText(extractedText);
+    static String roleOrDefault(String targetRole) {
+        return targetRole != null ? targetRole : DEFAULT_TARGET_ROLE;
+    }
 
-            // Set parsed data with error handling
-            try {
-                resume.setSkills(parseStringList(parsedData.get("skills")));
-            } catch (Exception e) {
-                log.warn("Failed to parse skills, using empty list", e);
-                resume.setSkills(List.of());
-            }
+    /**
+     * Look for an earlier analysis of the same content for the same role. The raw
+     * file hash is checked first so an exact re-upload also skips text extraction;
+     * otherwise the text is extracted and matched on its normalized form.
+     */
+    ExtractedResume extractOrReuse(MultipartFile file, String role) {
+        String fileHash = fileHash(file, role);
+
+        Resume previous = resumeRepository.findFirstByFileHashOrderByAnalyzedAtDesc(fileHash).orElse(null);
+        if (previous != null) {
+            recordDedup("file");
+            log.info("Reusing analysis {} for identical file upload", previous.getId());
+            return new ExtractedResume(file.getOriginalFilename(), previous.getFileType(),
+                    previous.getOriginalText(), fileHash, previous.getAnalysisHash(), previous);
+        }
 
-            try {
-                resume.setProjects(gson.fromJson(parsedData.get("projects"), new TypeToken<List<Resume.Project>>() {
-                }.getType()));
-            } catch (Exception e) {
-                log.warn("Failed to parse projects, using empty list", e);
-                resume.setProjects(List.of());
-            }
+        ExtractedResume extracted = extractResumeText(file);
+        String analysisHash = hash(role, normalizeText(extracted.text()).getBytes(StandardCharsets.UTF_8));
 
-            try {
-                resume.setEducations(
-                        gson.fromJson(parsedData.get("education"), new TypeToken<List<Resume.Education>>() {
-                        }.getType()));
-            } catch (Exception e) {
-                log.warn("Failed to parse education, using empty list", e);
-                resume.setEducations(List.of());
-            }
+        previous = resumeRepository.findFirstByAnalysisHashOrderByAnalyzedAtDesc(analysisHash).orElse(null);
+        recordDedup(previous != null ? "text" : "none");
+        if (previous != null) {
+            log.info("Reusing analysis {} for identical resume text", previous.getId());
+        }
+        return new ExtractedResume(extracted.fileName(), extracted.fileType(), extracted.text(),
+                fileHash, analysisHash, previous);
+    }
 
-            try {
-                resume.setAchievements(parseStringList(parsedData.get("achievements")));
-            } catch (Exception e) {
-                log.warn("Failed to parse achievements, using empty list", e);
-                resume.setAchievements(List.of());
-            }
+    /**
+     * Hash of the uploaded file's content for the role, as matched against earlier
+     * analyses
+     */
+    String fileHash(MultipartFile file, String role) {
+        if (file.isEmpty()) {
+            throw new InvalidFileException("File is empty");
+        }
 
-            try {
-                resume.setExperiences(
-                        gson.fromJson(parsedData.get("experience"), new TypeToken<List<Resume.Experience>>() {
-                        }.getType()));
-            } catch (Exception e) {
-                log.warn("Failed to parse experience, using empty list", e);
-                resume.setExperiences(List.of());
-            }
+        try (InputStream in = file.getInputStream()) {
+            return hash(role, in);
+        } catch (IOException e) {
+            log.error("Failed to read resume file", e);
+            throw new InvalidFileException("Failed to process resume file: " + e.getMessage());
+        }
+    }
 
-            // Set ATS analysis with error handling
-            try {
-                resume.setAtsScore(atsData.get("atsScore").getAsDouble());
-            } catch (Exception e) {
-                log.warn("Failed to parse ATS score, using default 0", e);
-                resume.setAtsScore(0.0);
-            }
+    /**
+     * Point the user at an existing analysis of identical content. A new history
+     * entry is only written when the match isn't already the user's current resume.
+     * A given resume id makes the write idempotent.
+     */
+    Resume reuseAnalysis(String userId, ExtractedResume extracted, String resumeId) {
+        Resume previous = extracted.previous();
+        User user = userRepository.findById(userId).orElseThrow();
 
-            try {
-                resume.setSkillGapAnalysis(
-                        gson.fromJson(atsData.get("skillGapAnalysis"), new TypeToken<Map<String, Object>>() {
-                        }.getType()));
-            } catch (Exception e) {
-                log.warn("Failed to parse skill gap analysis", e);
-                resume.setSkillGapAnalysis(Map.of());
-            }
+        if (userId.equals(previous.getUserId()) && previous.getId().equals(user.getCurrentResumeId())
+                && extracted.fileHash().equals(previous.getFileHash())) {
+            return previous;
+        }
 
-            try {
-                resume.setWeaknesses(parseStringList(atsData.get("weaknesses")));
-            } catch (Exception e) {
-                log.warn("Failed to parse weaknesses, using empty list", e);
-                resume.setWeaknesses(List.of());
-            }
+        Resume resume = new Resume();
+        resume.setId(resumeId);
+        resume.setUserId(userId);
+        resume.setFileName(extracted.fileName());
+        resume.setFileType(extracted.fileType());
+        resume.setOriginalText(extracted.text());
+        resume.setFileHash(extracted.fileHash());
+        resume.setAnalysisHash(extracted.analysisHash());
+
+        resume.setSkills(previous.getSkills());
+        resume.setProjects(previous.getProjects());
+        resume.setEducations(previous.getEducations());
+        resume.setAchievements(previous.getAchievements());
+        resume.setExperiences(previous.getExperiences());
+        resume.setAtsScore(previous.getAtsScore());
+        resume.setSkillGapAnalysis(previous.getSkillGapAnalysis());
+        resume.setWeaknesses(previous.getWeaknesses());
+        resume.setRecommendations(previous.getRecommendations());
+        resume.setImprovedBulletPoints(previous.getImprovedBulletPoints());
+        resume.setAtsKeywords(previous.getAtsKeywords());
+
+        resume.setAnalyzedAt(LocalDateTime.now());
+        resume.setCreatedAt(LocalDateTime.now());
+
+        return saveForUser(user, resume);
+    }
 
-            try {
-                resume.setRecommendations(parseStringList(atsData.get("recommendations")));
-            } catch (Exception e) {
-                log.warn("Failed to parse recommendations, using empty list", e);
-                resume.setRecommendations(List.of());
-            }
+    private void recordDedup(String match) {
+        meterRegistry.counter("resume.analysis.dedup", "match", match).increment();
+    }
 
-            try {
-                resume.setImprovedBulletPoints(parseStringList(atsData.get("improvedBulletPoints")));
-            } catch (Exception e) {
-                log.warn("Failed to parse improved bullet points, using empty list", e);
-                resume.setImprovedBulletPoints(List.of());
-            }
+    /**
+     * SHA-256 over the normalized role and the content, hex encoded
+     */
+    private String hash(String role, byte[] content) {
+        MessageDigest digest = roleDigest(role);
+        digest.update(content);
+        return HexFormat.of().formatHex(digest.digest());
+    }
 
-            try {
-                resume.setAtsKeywords(parseStringList(atsData.get("atsKeywords")));
-            } catch (Exception e) {
-                log.warn("Failed to parse ATS keywords, using empty list", e);
-                resume.setAtsKeywords(List.of());
-            }
+    /**
+     * SHA-256 over the normalized role and the streamed content, hex encoded,
+     * without reading the whole upload into memory
+     */
+    private String hash(String role, InputStream content) throws IOException {
+        MessageDigest digest = roleDigest(role);
+        byte[] buffer = new byte[8192];
+        for (int read; (read = content.read(buffer)) != -1; ) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
 
-            resume.setAnalyzedAt(LocalDateTime.now());
-            resume.setCreatedAt(LocalDateTime.now());
+    private MessageDigest roleDigest(String role) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(role.trim().toLowerCase().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return digest;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 
-            // Save resume
-            Resume savedResume = resumeRepository.save(resume);
+    /**
+     * Normalize extracted text so that the same resume exported twice (different
+     * line breaks, trailing spaces, Unicode forms) hashes the same
+     */
+    private String normalizeText(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
 
-            // Update user's ATS score and current resume
-            User user = userRepository.findById(userId).orElseThrow();
-            user.setAtsScore(resume.getAtsScore());
-            user.setCurrentResumeId(savedResume.getId());
-            user.setUpdatedAt(LocalDateTime.now());
-            userRepository.save(user);
+    /**
+     * Run the parse and ATS analyses in the configured mode, recording the
+     * end-to-end AI latency per mode
+     */
+    private CompletableFuture<AnalysisResult> analyze(String text, String role) {
+        String mode = analysisMode.toLowerCase();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        CompletableFuture<AnalysisResult> result = switch (mode) {
+            case "combined" -> aiService.analyzeResumeCombinedAsync(text, role)
+                    // Both field sets come back in one object
+                    .thenApply(merged -> new AnalysisResult(merged, merged));
+            case "sequential" -> aiService.parseResumeAsync(text)
+                    .thenCompose(parseResult -> aiService.analyzeResumeForATSAsync(text, role)
+                            .thenApply(atsResult -> new AnalysisResult(parseResult, atsResult)));
+            default -> {
+                CompletableFuture<String> parse = aiService.parseResumeAsync(text);
+                CompletableFuture<String> ats = aiService.analyzeResumeForATSAsync(text, role);
+                // Don't leave the sibling call running once one side has failed
+                parse.exceptionally(e -> {
+                    ats.cancel(true);
+                    return null;
+                });
+                ats.exceptionally(e -> {
+                    parse.cancel(true);
+                    return null;
+                });
+                yield parse.thenCombine(ats, AnalysisResult::new);
+            }
+        };
 
-            log.info("Resume analysis completed for user: {}", userId);
-            return savedResume;
+        return result.whenComplete((analysis, e) -> sample.stop(Timer.builder("resume.analysis.latency")
+                .description("Time spent in AI calls for one resume analysis")
+                .tag("mode", mode)
+                .tag("outcome", e == null ? "success" : "failure")
+                .register(meterRegistry)));
+    }
 
-        } catch (IOException e) {
-            log.error("Failed to process resume file", e);
-            throw new InvalidFileException("Failed to process resume file: " + e.getMessage());
-        } catch (JsonSyntaxException e) {
-            log.error("Failed to parse AI response", e);
-            throw new RuntimeException("Failed to parse resume data from AI", e);
-        }
+    private record AnalysisResult(String parseResult, String atsResult) {
     }
 
     /**
-     * Clean JSON response by removing markdown code blocks if present
+     * Start the AI calls an analysis still needs, given the results it already
+     * has, in the configured mode. Each result completes on its own so it can be
+     * kept as soon as it arrives; in combined mode one call answers both.
      */
-    private String cleanJsonResponse(String response) {
-        if (response == null) {
-            return null;
+    PendingAnalysis analyzeRemaining(String text, String role, String parseResult, String atsResult) {
+        String mode = analysisMode.toLowerCase();
+        if (parseResult == null && atsResult == null && mode.equals("combined")) {
+            CompletableFuture<String> merged = aiService.analyzeResumeCombinedAsync(text, role);
+            return new PendingAnalysis(merged, merged);
         }
 
-        // Remove markdown code blocks
-        String cleaned = response.trim();
-        if (cleaned.startsWith("```json")) {
-            cleaned = cleaned.substring(7);
-        } else if (cleaned.startsWith("```")) {
-            cleaned = cleaned.substring(3);
-        }
-
-        if (cleaned.endsWith("```")) {
-            cleaned = cleaned.substring(0, cleaned.length() - 3);
+        CompletableFuture<String> parse = parseResult != null
+                ? CompletableFuture.completedFuture(parseResult)
+                : aiService.parseResumeAsync(text);
+        CompletableFuture<String> ats;
+        if (atsResult != null) {
+            ats = CompletableFuture.completedFuture(atsResult);
+        } else if (mode.equals("sequential")) {
+            ats = parse.thenCompose(parsed -> aiService.analyzeResumeForATSAsync(text, role));
+        } else {
+            ats = aiService.analyzeResumeForATSAsync(text, role);
+            CompletableFuture<String> sibling = ats;
+            parse.exceptionally(e -> {
+                sibling.cancel(true);
+                return null;
+            });
+            ats.exceptionally(e -> {
+                parse.cancel(true);
+                return null;
+            });
         }
+        return new PendingAnalysis(parse, ats);
+    }
 
-        return cleaned.trim();
+    record PendingAnalysis(CompletableFuture<String> parseResult, CompletableFuture<String> atsResult) {
     }
 
     /**
-     * Parse JSON element to List<String>, handling both string arrays and object
-     * arrays
+     * Extract text from the uploaded file based on its type
      */
-    private List<String> parseStringList(com.google.gson.JsonElement jsonElement) {
-        if (jsonElement == null || jsonElement.isJsonNull()) {
-            return List.of();
+    private ExtractedResume extractResumeText(MultipartFile file) {
+        // Validate file
+        if (file.isEmpty()) {
+            throw new InvalidFileException("File is empty");
         }
 
+        String contentType = file.getContentType();
+        String fileName = file.getOriginalFilename();
+        String extractedText;
+        String fileType;
+
         try {
-            if (!jsonElement.isJsonArray()) {
-                return List.of();
+            // Extract text based on file type
+            if (contentType != null && contentType.equals("application/pdf")) {
+                extractedText = extractTextFromPDF(file);
+                fileType = "PDF";
+            } else if (ocrService.isImageFile(contentType)) {
+                extractedText = ocrService.extractTextFromImage(file);
+                fileType = "IMAGE";
+            } else if (contentType != null && contentType.startsWith("text/")) {
+                extractedText = new String(file.getBytes());
+                fileType = "TEXT";
+            } else {
+                throw new InvalidFileException("Unsupported file type. Please upload PDF, Image, or Text file");
             }
+        } catch (IOException e) {
+            log.error("Failed to process resume file", e);
+            throw new InvalidFileException("Failed to process resume file: " + e.getMessage());
+        }
 
-            com.google.gson.JsonArray jsonArray = jsonElement.getAsJsonArray();
-            List<String> result = new java.util.ArrayList<>();
-
-            for (int i = 0; i < jsonArray.size(); i++) {
-                if (jsonArray.get(i).isJsonPrimitive()) {
-                    // It's a string - add directly
-                    result.add(jsonArray.get(i).getAsString());
-                } else if (jsonArray.get(i).isJsonObject()) {
-                    // It's an object - try to extract a string value
-                    var obj = jsonArray.get(i).getAsJsonObject();
-                    String value = null;
-
-                    // Try common field names
-                    if (obj.has("name")) {
-                        value = obj.get("name").getAsString();
-                    } else if (obj.has("value")) {
-                        value = obj.get("value").getAsString();
-                    } else if (obj.has("skill")) {
-                        value = obj.get("skill").getAsString();
-                    } else if (obj.has("achievement")) {
-                        value = obj.get("achievement").getAsString();
-                    } else if (obj.has("weakness")) {
-                        value = obj.get("weakness").getAsString();
-                    } else if (obj.has("recommendation")) {
-                        value = obj.get("recommendation").getAsString();
-                    } else if (obj.has("keyword")) {
-                        value = obj.get("keyword").getAsString();
-                    } else if (obj.has("description")) {
-                        value = obj.get("description").getAsString();
-                    } else {
-                        // If no known field, take the first string value found
-                        for (String key : obj.keySet()) {
-                            if (obj.get(key).isJsonPrimitive()) {
-                                value = obj.get(key).getAsString();
-                                break;
-                            }
-                        }
-                    }
-
-                    if (value != null) {
-                        result.add(value);
-                    }
-                }
-            }
+        if (extractedText == null || extractedText.trim().isEmpty()) {
+            throw new InvalidFileException("Could not extract text from file");
+        }
 
-            return result;
-        } catch (Exception e) {
-            log.error("Failed to parse string list from JSON element", e);
-            return List.of();
+        log.info("Extracted {} characters from resume", extractedText.length());
+        return new ExtractedResume(fileName, fileType, extractedText, null, null, null);
+    }
+
+    /**
+     * Map the AI parse and ATS results onto a new Resume, save it and make it the
+     * user's current resume. A given resume id makes the write idempotent.
+     */
+    Resume saveAnalysis(String userId, ExtractedResume extracted, String parseResult, String atsResult,
+            String resumeId) {
+        ResumeParseResult parsed;
+        AtsAnalysisResult ats;
+        try {
+            parsed = llmJsonCodec.decode(parseResult, ResumeParseResult.class);
+            ats = llmJsonCodec.decode(atsResult, AtsAnalysisResult.class);
+        } catch (JsonParseException e) {
+            log.error("Failed to parse AI response", e);
+            throw new RuntimeException("Failed to parse resume data from AI", e);
         }
+
+        // Create Resume entity
+        Resume resume = new Resume();
+        resume.setId(resumeId);
+        resume.setUserId(userId);
+        resume.setFileName(extracted.fileName());
+        resume.setFileType(extracted.fileType());
+        resume.setOriginalText(extracted.text());
+        resume.setFileHash(extracted.fileHash());
+        resume.setAnalysisHash(extracted.analysisHash());
+
+        // Parsed data; missing or malformed fields are already defaulted
+        resume.setSkills(parsed.skills());
+        resume.setProjects(parsed.projects());
+        resume.setEducations(parsed.education());
+        resume.setAchievements(parsed.achievements());
+        resume.setExperiences(parsed.experience());
+
+        // ATS analysis
+        resume.setAtsScore(ats.atsScore());
+        resume.setSkillGapAnalysis(ats.skillGapAnalysis());
+        resume.setWeaknesses(ats.weaknesses());
+        resume.setRecommendations(ats.recommendations());
+        resume.setImprovedBulletPoints(ats.improvedBulletPoints());
+        resume.setAtsKeywords(ats.atsKeywords());
+
+        resume.setAnalyzedAt(LocalDateTime.now());
+        resume.setCreatedAt(LocalDateTime.now());
+
+        return saveForUser(userRepository.findById(userId).orElseThrow(), resume);
+    }
+
+    /**
+     * Save the resume and make it the user's current resume
+     */
+    private Resume saveForUser(User user, Resume resume) {
+        // Save resume
+        Resume savedResume = resumeRepository.save(resume);
+
+        // Update user's ATS score and current resume
+        user.setAtsScore(resume.getAtsScore());
+        user.setCurrentResumeId(savedResume.getId());
+        user.setUpdatedAt(LocalDateTime.now());
+        userRepository.save(user);
+
+        log.info("Resume analysis completed for user: {}", user.getId());
+        return savedResume;
+    }
+
+    record ExtractedResume(String fileName, String fileType, String text,
+            String fileHash, String analysisHash, Resume previous) {
     }
 
     /**
      * Extract text from PDF file
      */
     private String extractTextFromPDF(MultipartFile file) throws IOException {
-        try (PDDocument document = Loader.loadPDF(file.getBytes())) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            return stripper.getText(document);
-        }
+        return pdfTextExtractor.extract(file);
     }
 
     /**
@@ -328,6 +461,10 @@ public class ResumeService {
         return resumeRepository.findById(resumeId).orElse(null);
     }
 
+    public boolean resumeExists(String resumeId) {
+        return resumeId != null && resumeRepository.existsById(resumeId);
+    }
+
     /**
      * Upload resume without analysis (just store the file)
      */
@@ -0,0 +1,210 @@
+package com.hireready.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache in front of the AI suggestion calls. Entries are keyed on the
+ * suggestion type plus the normalized query and company/role, expire after a
+ * TTL and are evicted by Caffeine's W-TinyLFU policy. The cache is bounded by
+ * total weight (characters held) and, through a minimum per-entry weight, by
+ * entry count. It can optionally be snapshotted to disk so it survives
+ * restarts.
+ */
+@Slf4j
+@Component
+public class SuggestionCache {
+
+    public static final String COMPANIES = "companies";
+    public static final String ROLES = "roles";
+    public static final String POSITIONS = "positions";
+
+    private final Cache<String, CachedSuggestions> cache;
+    private final Duration ttl;
+    private final Gson gson = new Gson();
+    private final Counter evictions;
+
+    @Value("${suggestion.cache.snapshot.path:}")
+    private String snapshotPath;
+
+    public SuggestionCache(MeterRegistry meterRegistry,
+            @Value("${suggestion.cache.max.entries:10000}") long maxEntries,
+            @Value("${suggestion.cache.max.weight:2000000}") long maxWeight,
+            @Value("${suggestion.cache.ttl.hours:24}") long ttlHours) {
+        this.ttl = Duration.ofHours(ttlHours);
+        this.evictions = Counter.builder("suggestion.cache.evictions.size")
+                .description("Suggestion cache entries evicted to stay within bounds")
+                .register(meterRegistry);
+
+        // Every entry weighs at least maxWeight / maxEntries, which caps the entry
+        // count as well as the total size
+        int minEntryWeight = (int) Math.max(1, maxWeight / maxEntries);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String key, CachedSuggestions value) -> Math.max(minEntryWeight, value.weight(key)))
+                .expireAfter(new Expiry<String, CachedSuggestions>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedSuggestions value, long currentTime) {
+                        return value.remaining(ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedSuggestions value, long currentTime,
+                            long currentDuration) {
+                        return value.remaining(ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedSuggestions value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .removalListener((String key, CachedSuggestions value, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        evictions.increment();
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai.suggestions");
+    }
+
+    /**
+     * Return cached suggestions, or load them once for concurrent identical
+     * queries. Empty results are not cached.
+     */
+    public List<String> get(String type, String query, String context, Supplier<List<String>> loader) {
+        String key = key(type, query, context);
+        CachedSuggestions cached = cache.get(key, k -> {
+            List<String> loaded = loader.get();
+            if (loaded == null || loaded.isEmpty()) {
+                return null;
+            }
+            return new CachedSuggestions(List.copyOf(loaded), System.currentTimeMillis());
+        });
+        return cached != null ? cached.values : List.of();
+    }
+
+    /**
+     * Visit every cached result with its suggestion type
+     */
+    public void forEachEntry(BiConsumer<String, List<String>> consumer) {
+        cache.asMap().forEach((key, value) -> consumer.accept(key.substring(0, key.indexOf('|')), value.values));
+    }
+
+    private String key(String type, String query, String context) {
+        return type + "|" + normalize(query) + "|" + normalize(context);
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    @PostConstruct
+    void loadSnapshot() {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return;
+        }
+        Path path = Path.of(snapshotPath);
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            Map<String, CachedSuggestions> entries = gson.fromJson(reader,
+                    new TypeToken<Map<String, CachedSuggestions>>() {
+                    }.getType());
+            if (entries == null) {
+                return;
+            }
+            entries.forEach((key, value) -> {
+                if (value != null && value.values != null && !value.remaining(ttl).isZero()) {
+                    cache.put(key, value);
+                }
+            });
+            log.info("Loaded {} suggestion cache entries from {}", cache.estimatedSize(), path);
+        } catch (Exception e) {
+            log.warn("Failed to load suggestion cache snapshot from {}: {}", path, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${suggestion.cache.snapshot.interval.ms:600000}",
+            initialDelayString = "${suggestion.cache.snapshot.interval.ms:600000}")
+    @PreDestroy
+    void saveSnapshot() {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return;
+        }
+        Path path = Path.of(snapshotPath);
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "suggestions", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                gson.toJson(new HashMap<>(cache.asMap()), writer);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Saved {} suggestion cache entries to {}", cache.estimatedSize(), path);
+        } catch (IOException e) {
+            log.warn("Failed to save suggestion cache snapshot to {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static class CachedSuggestions {
+        private List<String> values;
+        private long createdAt;
+
+        CachedSuggestions(List<String> values, long createdAt) {
+            this.values = values;
+            this.createdAt = createdAt;
+        }
+
+        int weight(String key) {
+            int weight = key.length();
+            for (String value : values) {
+                weight += value.length();
+            }
+            return weight;
+        }
+
+        Duration remaining(Duration ttl) {
+            long age = System.currentTimeMillis() - createdAt;
+            return age >= ttl.toMillis() ? Duration.ZERO : ttl.minusMillis(age);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.hireready.service;
+
+import com.hireready.model.InterviewSchedule;
+import com.hireready.repository.InterviewScheduleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local typeahead index for company, role and position suggestions. Seeded
+ * from the bundled dictionaries, from interview schedule history and from
+ * past AI suggestions, and updated as new schedules are saved.
+ */
+@Slf4j
+@Component
+public class SuggestionIndex {
+
+    private static final long DICTIONARY_WEIGHT = 1;
+    private static final long AI_SUGGESTION_WEIGHT = 2;
+    private static final long SCHEDULE_WEIGHT = 5;
+    private static final int HISTORY_PAGE_SIZE = 500;
+
+    private final InterviewScheduleRepository scheduleRepository;
+    private final SuggestionCache suggestionCache;
+    private final Map<String, PrefixTrie> tries;
+
+    public SuggestionIndex(InterviewScheduleRepository scheduleRepository, SuggestionCache suggestionCache,
+            MeterRegistry meterRegistry, @Value("${suggestion.index.top.k:10}") int topK) {
+        this.scheduleRepository = scheduleRepository;
+        this.suggestionCache = suggestionCache;
+        this.tries = Map.of(
+                SuggestionCache.COMPANIES, new PrefixTrie(topK),
+                SuggestionCache.ROLES, new PrefixTrie(topK),
+                SuggestionCache.POSITIONS, new PrefixTrie(topK));
+
+        tries.forEach((type, trie) -> Gauge.builder("suggestion.index.terms", trie, PrefixTrie::size)
+                .tag("type", type)
+                .description("Terms held in the local suggestion index")
+                .register(meterRegistry));
+    }
+
+    /**
+     * Most popular known terms matching the query prefix
+     */
+    public List<String> lookup(String type, String query, int limit) {
+        return tries.get(type).lookup(query, limit);
+    }
+
+    /**
+     * Record suggestions returned by the AI
+     */
+    public void addSuggestions(String type, List<String> values) {
+        PrefixTrie trie = tries.get(type);
+        for (String value : values) {
+            trie.add(value, AI_SUGGESTION_WEIGHT);
+        }
+    }
+
+    /**
+     * Record the company, role and position chosen for a schedule
+     */
+    public void addSchedule(InterviewSchedule schedule) {
+        tries.get(SuggestionCache.COMPANIES).add(schedule.getCompany(), SCHEDULE_WEIGHT);
+        tries.get(SuggestionCache.ROLES).add(schedule.getRole(), SCHEDULE_WEIGHT);
+        tries.get(SuggestionCache.POSITIONS).add(schedule.getPosition(), SCHEDULE_WEIGHT);
+    }
+
+    @PostConstruct
+    void loadDictionaries() {
+        tries.forEach((type, trie) -> {
+            ClassPathResource resource = new ClassPathResource("suggestions/" + type + ".txt");
+            if (!resource.exists()) {
+                return;
+            }
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+                reader.lines()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .forEach(line -> trie.add(line, DICTIONARY_WEIGHT));
+            } catch (Exception e) {
+                log.warn("Failed to load suggestion dictionary {}: {}", resource.getPath(), e.getMessage());
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void seedFromHistory() {
+        suggestionCache.forEachEntry(this::addSuggestions);
+
+        int schedules = 0;
+        try {
+            Page<InterviewSchedule> page = scheduleRepository.findAll(PageRequest.of(0, HISTORY_PAGE_SIZE));
+            while (true) {
+                page.forEach(this::addSchedule);
+                schedules += page.getNumberOfElements();
+                if (!page.hasNext()) {
+                    break;
+                }
+                page = scheduleRepository.findAll(page.nextPageable());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to seed suggestion index from schedule history: {}", e.getMessage());
+        }
+
+        log.info("Suggestion index ready: {} companies, {} roles, {} positions ({} schedules)",
+                tries.get(SuggestionCache.COMPANIES).size(), tries.get(SuggestionCache.ROLES).size(),
+                tries.get(SuggestionCache.POSITIONS).size(), schedules);
+    }
+}
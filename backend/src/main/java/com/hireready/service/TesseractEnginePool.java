@@ -0,0 +1,287 @@
+package com.hireready.service;
+
+import com.hireready.exception.ServerBusyException;
+import com.sun.jna.Pointer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.tess4j.ITessAPI.TessBaseAPI;
+import net.sourceforge.tess4j.ITessAPI.TessPageSegMode;
+import net.sourceforge.tess4j.TessAPI;
+import net.sourceforge.tess4j.TesseractException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of initialized Tesseract engines.
+ *
+ * Each engine is a native Tesseract handle with its traineddata loaded once,
+ * rather than per call as tess4j's Tesseract class does. Engines are created
+ * at startup, checked out for one image at a time and checked back in. When
+ * every engine is busy a request waits up to the acquire timeout and is then
+ * rejected, so concurrent uploads queue for a fixed number of cores instead of
+ * each starting its own engine.
+ *
+ * Native memory held by an engine grows with use, so engines are recycled
+ * after a number of images or an age, and one that failed is discarded. A
+ * periodic sweep replaces what was recycled so requests rarely pay for
+ * initialization.
+ */
+@Slf4j
+@Component
+public class TesseractEnginePool {
+
+    private final BlockingQueue<Engine> idle = new LinkedBlockingQueue<>();
+    private final AtomicInteger engines = new AtomicInteger();
+    private final int size;
+    private final Timer acquireTimer;
+    private final Counter rejected;
+    private final Counter recycled;
+
+    @Value("${tesseract.data.path:}")
+    private String dataPath;
+
+    @Value("${tesseract.language:eng}")
+    private String language;
+
+    @Value("${tesseract.pool.acquire.timeout.ms:10000}")
+    private long acquireTimeoutMs;
+
+    @Value("${tesseract.pool.max.uses:200}")
+    private int maxUses;
+
+    @Value("${tesseract.pool.max.age.minutes:60}")
+    private long maxAgeMinutes;
+
+    public TesseractEnginePool(MeterRegistry meterRegistry,
+            @Value("${tesseract.pool.size:0}") int size) {
+        this.size = size > 0 ? size : Runtime.getRuntime().availableProcessors();
+        this.acquireTimer = Timer.builder("ocr.engine.acquire")
+                .description("Time spent waiting for a Tesseract engine")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("ocr.engine.rejected")
+                .description("OCR requests rejected because no engine was free in time")
+                .register(meterRegistry);
+        this.recycled = Counter.builder("ocr.engine.recycled")
+                .description("Tesseract engines closed after use, age or failure")
+                .register(meterRegistry);
+        Gauge.builder("ocr.engine.idle", idle, BlockingQueue::size)
+                .description("Tesseract engines ready for use")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load the engines up front so the first uploads do not pay for it. A
+     * failure is logged rather than failing startup, as OCR is optional.
+     */
+    @PostConstruct
+    void warmUp() {
+        try {
+            replenish();
+            log.info("Initialized {} Tesseract engines for language {}", idle.size(), language);
+        } catch (TesseractException e) {
+            log.warn("Failed to initialize Tesseract engines: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recognize the text of an image on a pooled engine
+     */
+    public String recognize(BufferedImage image) throws TesseractException {
+        Engine engine = checkout();
+        boolean healthy = false;
+        try {
+            String text = engine.recognize(image);
+            healthy = true;
+            return text;
+        } finally {
+            checkin(engine, healthy);
+        }
+    }
+
+    /**
+     * Close idle engines that are due for recycling and top the pool back up
+     */
+    @Scheduled(fixedDelayString = "${tesseract.pool.recycle.interval.ms:60000}",
+            initialDelayString = "${tesseract.pool.recycle.interval.ms:60000}")
+    void recycle() {
+        List<Engine> ready = new ArrayList<>();
+        idle.drainTo(ready);
+        for (Engine engine : ready) {
+            if (engine.isWornOut()) {
+                retire(engine);
+            } else {
+                idle.offer(engine);
+            }
+        }
+
+        try {
+            replenish();
+        } catch (TesseractException e) {
+            log.warn("Failed to replace recycled Tesseract engines: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        List<Engine> ready = new ArrayList<>();
+        idle.drainTo(ready);
+        ready.forEach(Engine::close);
+    }
+
+    private Engine checkout() throws TesseractException {
+        long start = System.nanoTime();
+        try {
+            Engine engine = idle.poll();
+            if (engine == null) {
+                engine = createIfBelowCapacity();
+            }
+            if (engine == null) {
+                engine = idle.poll(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+            }
+            if (engine == null) {
+                rejected.increment();
+                throw new ServerBusyException("Too many images are being processed; please try again shortly");
+            }
+            return engine;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TesseractException("Interrupted while waiting for an OCR engine", e);
+        } finally {
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void checkin(Engine engine, boolean healthy) {
+        if (healthy && !engine.isWornOut()) {
+            idle.offer(engine);
+        } else {
+            retire(engine);
+        }
+    }
+
+    private void replenish() throws TesseractException {
+        for (Engine engine = createIfBelowCapacity(); engine != null; engine = createIfBelowCapacity()) {
+            idle.offer(engine);
+        }
+    }
+
+    /**
+     * A new engine if the pool has room for one, otherwise null
+     */
+    private Engine createIfBelowCapacity() throws TesseractException {
+        int count;
+        do {
+            count = engines.get();
+            if (count >= size) {
+                return null;
+            }
+        } while (!engines.compareAndSet(count, count + 1));
+
+        try {
+            return new Engine();
+        } catch (TesseractException e) {
+            engines.decrementAndGet();
+            throw e;
+        } catch (RuntimeException | LinkageError e) {
+            // The native library is loaded with the first engine and may be missing
+            engines.decrementAndGet();
+            throw new TesseractException("Could not start Tesseract", e);
+        }
+    }
+
+    private void retire(Engine engine) {
+        engine.close();
+        engines.decrementAndGet();
+        recycled.increment();
+    }
+
+    /**
+     * One native Tesseract handle with its traineddata loaded. Used by one
+     * thread at a time, handed over through the idle queue.
+     */
+    private final class Engine {
+        private final TessAPI api = TessAPI.INSTANCE;
+        private final TessBaseAPI handle;
+        private final long createdAt = System.nanoTime();
+        private int uses;
+
+        private Engine() throws TesseractException {
+            handle = api.TessBaseAPICreate();
+            String path = dataPath == null || dataPath.isBlank() ? null : dataPath;
+            if (api.TessBaseAPIInit3(handle, path, language) != 0) {
+                api.TessBaseAPIDelete(handle);
+                throw new TesseractException("Could not load Tesseract data for language " + language);
+            }
+            api.TessBaseAPISetPageSegMode(handle, TessPageSegMode.PSM_AUTO);
+        }
+
+        private String recognize(BufferedImage image) throws TesseractException {
+            uses++;
+            BufferedImage gray = toGray(image);
+            byte[] pixels = ((DataBufferByte) gray.getRaster().getDataBuffer()).getData();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(pixels.length).put(pixels).flip();
+
+            try {
+                api.TessBaseAPISetImage(handle, buffer, gray.getWidth(), gray.getHeight(), 1, gray.getWidth());
+                Pointer text = api.TessBaseAPIGetUTF8Text(handle);
+                if (text == null) {
+                    throw new TesseractException("Tesseract returned no text");
+                }
+                try {
+                    return text.getString(0, "UTF-8");
+                } finally {
+                    api.TessDeleteText(text);
+                }
+            } finally {
+                api.TessBaseAPIClear(handle);
+            }
+        }
+
+        private boolean isWornOut() {
+            return uses >= maxUses
+                    || System.nanoTime() - createdAt >= Duration.ofMinutes(maxAgeMinutes).toNanos();
+        }
+
+        private void close() {
+            api.TessBaseAPIEnd(handle);
+            api.TessBaseAPIDelete(handle);
+        }
+    }
+
+    /**
+     * The image as 8-bit grayscale, whose rows are exactly one byte per pixel.
+     * A gray image that is a view into a larger one is copied, as its buffer
+     * holds the parent's rows.
+     */
+    private static BufferedImage toGray(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_BYTE_GRAY && image.getRaster().getParent() == null) {
+            return image;
+        }
+        BufferedImage gray = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = gray.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return gray;
+    }
+}
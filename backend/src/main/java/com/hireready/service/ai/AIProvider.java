@@ -0,0 +1,30 @@
+package com.hireready.service.ai;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * A chat completion backend that AIService can route prompts to. Any bean
+ * implementing this interface takes part in routing, so a fake provider can be
+ * registered to drive AIService deterministically in tests.
+ */
+public interface AIProvider {
+
+    /**
+     * Stable lowercase name used in configuration, metrics and status output
+     */
+    String getName();
+
+    /**
+     * Generate a complete response without blocking. Cancelling the returned
+     * future should abort the underlying request.
+     */
+    CompletableFuture<String> generate(String prompt);
+
+    /**
+     * Generate a response, passing tokens to the consumer as they arrive, and
+     * return the assembled text
+     */
+    String stream(String prompt, Consumer<String> onToken) throws IOException;
+}
@@ -0,0 +1,351 @@
+package com.hireready.service.ai;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Adaptive concurrency limit for a single AI provider, using additive increase /
+ * multiplicative decrease.
+ *
+ * Every successful call made while at least half the limit is in use raises the
+ * limit by 1/limit, so it grows by about one per round of calls. A 429 cuts the
+ * limit by the backoff ratio, once per back-off, and holds new calls until the
+ * provider's Retry-After has passed. Calls over the limit wait in a bounded FIFO
+ * queue for at most the configured wait; a full queue, an expired wait or a
+ * back-off longer than the wait fails the call with
+ * {@link RateLimitedException} so the caller can try another provider.
+ */
+public class AdaptiveLimiter {
+
+    public enum Outcome {
+        SUCCESS, THROTTLED, FAILURE, IGNORED
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final Clock clock;
+    private final Executor executor;
+    private final Deque<CompletableFuture<Permit>> queue = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+    private Instant pausedUntil = Instant.EPOCH;
+    private long throttled;
+    private long rejectedQueueFull;
+    private long rejectedTimeout;
+
+    public AdaptiveLimiter(String name, Settings settings, Clock clock, Executor executor) {
+        this.name = name;
+        this.settings = settings;
+        this.clock = clock;
+        this.executor = executor;
+        this.limit = settings.getInitialLimit();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Run the call once a permit is available. A 429 releases the permit as
+     * throttled and, if the back-off ends within the wait budget, queues the call
+     * again. Cancelling the returned future withdraws a queued call or cancels
+     * the one in flight.
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        submit(call, result, clock.instant().plus(settings.getMaxWait()));
+        return result;
+    }
+
+    /**
+     * Wait for a permit, for at most the configured wait. The permit must be
+     * released exactly once with the outcome of the call it was used for.
+     */
+    public CompletableFuture<Permit> acquire() {
+        return acquire(clock.instant().plus(settings.getMaxWait()));
+    }
+
+    /**
+     * Hold new calls for the given time without lowering the limit, e.g. when the
+     * provider reports its remaining quota is exhausted
+     */
+    public void pause(Duration wait) {
+        synchronized (this) {
+            if (!extendPause(wait)) {
+                return;
+            }
+        }
+        scheduleDrain(wait);
+    }
+
+    public synchronized boolean isPaused() {
+        return clock.instant().isBefore(pausedUntil);
+    }
+
+    public synchronized int currentLimit() {
+        return effectiveLimit();
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    public synchronized int queueDepth() {
+        return queue.size();
+    }
+
+    public synchronized long throttledCount() {
+        return throttled;
+    }
+
+    public synchronized long rejectedCount(String reason) {
+        return "queue_full".equals(reason) ? rejectedQueueFull : rejectedTimeout;
+    }
+
+    public synchronized Snapshot snapshot() {
+        Instant now = clock.instant();
+        return new Snapshot(name, effectiveLimit(), inFlight, queue.size(), throttled, rejectedQueueFull,
+                rejectedTimeout, now.isBefore(pausedUntil) ? pausedUntil : null);
+    }
+
+    private <T> void submit(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result, Instant deadline) {
+        CompletableFuture<Permit> permit = acquire(deadline);
+        result.whenComplete((response, e) -> {
+            if (result.isCancelled()) {
+                permit.cancel(false);
+            }
+        });
+
+        permit.whenComplete((granted, e) -> {
+            if (e != null) {
+                result.completeExceptionally(unwrap(e));
+                return;
+            }
+            if (result.isDone()) {
+                granted.release(Outcome.IGNORED);
+                return;
+            }
+
+            CompletableFuture<T> inner = call.get();
+            result.whenComplete((response, ex) -> {
+                if (result.isCancelled()) {
+                    inner.cancel(true);
+                }
+            });
+            inner.whenComplete((response, ex) -> {
+                if (ex == null) {
+                    granted.release(Outcome.SUCCESS);
+                    result.complete(response);
+                    return;
+                }
+
+                Throwable cause = unwrap(ex);
+                if (cause instanceof RateLimitedException limited) {
+                    granted.release(Outcome.THROTTLED, limited.getRetryAfter());
+                    if (!result.isDone() && !resumeAt().isAfter(deadline)) {
+                        submit(call, result, deadline);
+                        return;
+                    }
+                } else {
+                    granted.release(inner.isCancelled() ? Outcome.IGNORED : Outcome.FAILURE);
+                }
+                result.completeExceptionally(cause);
+            });
+        });
+    }
+
+    private CompletableFuture<Permit> acquire(Instant deadline) {
+        CompletableFuture<Permit> waiter = new CompletableFuture<>();
+        Instant now = clock.instant();
+
+        synchronized (this) {
+            if (queue.isEmpty() && canStart(now)) {
+                inFlight++;
+                waiter.complete(new Permit());
+                return waiter;
+            }
+            if (queue.size() >= settings.getQueueCapacity()) {
+                rejectedQueueFull++;
+                waiter.completeExceptionally(new RateLimitedException(name + " request queue is full",
+                        retryAfter(now)));
+                return waiter;
+            }
+            if (pausedUntil.isAfter(deadline) || !deadline.isAfter(now)) {
+                // The back-off outlasts the wait budget; let the caller move on now
+                rejectedTimeout++;
+                waiter.completeExceptionally(new RateLimitedException(name + " is backing off from rate limits",
+                        retryAfter(now)));
+                return waiter;
+            }
+            queue.addLast(waiter);
+        }
+
+        CompletableFuture.delayedExecutor(Duration.between(now, deadline).toMillis(), TimeUnit.MILLISECONDS, executor)
+                .execute(() -> {
+                    if (waiter.completeExceptionally(new RateLimitedException(
+                            name + " request waited too long for a slot", null))) {
+                        synchronized (this) {
+                            rejectedTimeout++;
+                            queue.remove(waiter);
+                        }
+                    }
+                });
+        waiter.whenComplete((granted, e) -> {
+            if (waiter.isCancelled()) {
+                synchronized (this) {
+                    queue.remove(waiter);
+                }
+            }
+        });
+        return waiter;
+    }
+
+    private void release(Outcome outcome, Duration retryAfter) {
+        Duration pause = null;
+        synchronized (this) {
+            inFlight--;
+            if (outcome == Outcome.SUCCESS) {
+                if (inFlight + 1 >= limit / 2) {
+                    limit = Math.min(settings.getMaxLimit(), limit + 1.0 / limit);
+                }
+            } else if (outcome == Outcome.THROTTLED) {
+                throttled++;
+                Duration wait = retryAfter != null ? retryAfter : settings.getDefaultRetryAfter();
+                if (!clock.instant().isBefore(pausedUntil)) {
+                    // Only the first 429 of a burst lowers the limit
+                    limit = Math.max(settings.getMinLimit(), limit * settings.getBackoffRatio());
+                }
+                if (extendPause(wait)) {
+                    pause = wait;
+                }
+            }
+        }
+
+        if (pause != null) {
+            scheduleDrain(pause);
+        }
+        drain();
+    }
+
+    /**
+     * Hand permits to queued callers while the limit allows
+     */
+    private void drain() {
+        List<CompletableFuture<Permit>> ready = new ArrayList<>();
+        synchronized (this) {
+            Instant now = clock.instant();
+            while (!queue.isEmpty() && canStart(now)) {
+                CompletableFuture<Permit> waiter = queue.pollFirst();
+                if (waiter.isDone()) {
+                    continue;
+                }
+                inFlight++;
+                ready.add(waiter);
+            }
+        }
+
+        // Complete outside the lock; the waiter may have timed out in between
+        for (CompletableFuture<Permit> waiter : ready) {
+            Permit permit = new Permit();
+            if (!waiter.complete(permit)) {
+                permit.release(Outcome.IGNORED);
+            }
+        }
+    }
+
+    private void scheduleDrain(Duration wait) {
+        CompletableFuture.delayedExecutor(wait.toMillis(), TimeUnit.MILLISECONDS, executor).execute(this::drain);
+    }
+
+    private boolean extendPause(Duration wait) {
+        Instant until = clock.instant().plus(wait);
+        if (!until.isAfter(pausedUntil)) {
+            return false;
+        }
+        pausedUntil = until;
+        return true;
+    }
+
+    private synchronized Instant resumeAt() {
+        return pausedUntil;
+    }
+
+    private boolean canStart(Instant now) {
+        return !now.isBefore(pausedUntil) && inFlight < effectiveLimit();
+    }
+
+    private int effectiveLimit() {
+        return Math.max(1, (int) Math.floor(limit));
+    }
+
+    private Duration retryAfter(Instant now) {
+        return now.isBefore(pausedUntil) ? Duration.between(now, pausedUntil) : null;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    /**
+     * Permission to make one call
+     */
+    public final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit() {
+        }
+
+        public void release(Outcome outcome) {
+            release(outcome, null);
+        }
+
+        public void release(Outcome outcome, Duration retryAfter) {
+            if (released.compareAndSet(false, true)) {
+                AdaptiveLimiter.this.release(outcome, retryAfter);
+            }
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Settings {
+        private double initialLimit;
+        private double minLimit;
+        private double maxLimit;
+        private double backoffRatio;
+        private int queueCapacity;
+        private Duration maxWait;
+        private Duration defaultRetryAfter;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Snapshot {
+        private String provider;
+        private int limit;
+        private int inFlight;
+        private int queueDepth;
+        private long throttled;
+        private long rejectedQueueFull;
+        private long rejectedTimeout;
+        private Instant pausedUntil;
+    }
+}
@@ -0,0 +1,221 @@
+package com.hireready.service.ai;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Circuit breaker for a single AI provider, driven by the error rate and slow
+ * call rate over a sliding window of recent calls.
+ *
+ * CLOSED lets every call through. Once the window holds enough calls and either
+ * rate crosses its threshold the breaker OPENs and rejects calls for the open
+ * duration. It then goes HALF_OPEN and lets a few probe calls through: if they
+ * all succeed quickly it closes with a fresh window, otherwise it opens again.
+ * Time comes from the supplied {@link Clock}, so tests can drive transitions
+ * deterministically.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final Clock clock;
+    private final Deque<Outcome> window = new ArrayDeque<>();
+
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    public CircuitBreaker(String name, Settings settings, Clock clock) {
+        this.name = name;
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Whether a call would currently be let through, without claiming a probe
+     * slot
+     */
+    public synchronized boolean isCallPermitted() {
+        return switch (currentState()) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> probesInFlight < settings.getHalfOpenProbes();
+        };
+    }
+
+    /**
+     * Claim permission for a call. Every granted permission must be followed by
+     * exactly one of onSuccess, onFailure or onIgnored.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        switch (currentState()) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (probesInFlight < settings.getHalfOpenProbes()) {
+                    probesInFlight++;
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    public synchronized void onSuccess(long latencyMs) {
+        boolean slow = latencyMs >= settings.getSlowCallMs();
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            if (slow) {
+                open();
+                return;
+            }
+            if (++probeSuccesses >= settings.getHalfOpenProbes()) {
+                close();
+            }
+            return;
+        }
+        record(new Outcome(clock.instant(), false, slow));
+    }
+
+    public synchronized void onFailure(long latencyMs) {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            open();
+            return;
+        }
+        record(new Outcome(clock.instant(), true, latencyMs >= settings.getSlowCallMs()));
+    }
+
+    /**
+     * The call was cancelled before it produced an outcome
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+    }
+
+    /**
+     * Health between 0 and 1 used to rank providers: 1 for a clean window,
+     * reduced by failures and, less heavily, by slow calls
+     */
+    public synchronized double healthScore() {
+        State current = currentState();
+        if (current == State.OPEN) {
+            return 0.0;
+        }
+        Rates rates = rates();
+        double score = 1.0 - rates.failureRate - 0.5 * rates.slowCallRate;
+        if (current == State.HALF_OPEN) {
+            score *= 0.5;
+        }
+        return Math.max(0.0, score);
+    }
+
+    public synchronized Snapshot snapshot() {
+        State current = currentState();
+        Rates rates = rates();
+        return new Snapshot(name, current, rates.calls, rates.failureRate, rates.slowCallRate, healthScore(),
+                current == State.OPEN ? openedAt.plus(settings.getOpenDuration()) : null);
+    }
+
+    private State currentState() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(settings.getOpenDuration()))) {
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        return state;
+    }
+
+    private void record(Outcome outcome) {
+        window.addLast(outcome);
+        while (window.size() > settings.getWindowSize()) {
+            window.removeFirst();
+        }
+
+        Rates rates = rates();
+        if (state == State.CLOSED && rates.calls >= settings.getMinimumCalls()
+                && (rates.failureRate >= settings.getFailureRateThreshold()
+                        || rates.slowCallRate >= settings.getSlowCallRateThreshold())) {
+            open();
+        }
+    }
+
+    private Rates rates() {
+        Instant cutoff = clock.instant().minus(settings.getWindowDuration());
+        while (!window.isEmpty() && window.peekFirst().at().isBefore(cutoff)) {
+            window.removeFirst();
+        }
+
+        int calls = window.size();
+        if (calls == 0) {
+            return new Rates(0, 0.0, 0.0);
+        }
+        long failures = window.stream().filter(Outcome::failed).count();
+        long slow = window.stream().filter(Outcome::slow).count();
+        return new Rates(calls, (double) failures / calls, (double) slow / calls);
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.instant();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        window.clear();
+        probesInFlight = 0;
+        probeSuccesses = 0;
+    }
+
+    private record Outcome(Instant at, boolean failed, boolean slow) {
+    }
+
+    private record Rates(int calls, double failureRate, double slowCallRate) {
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Settings {
+        private int windowSize;
+        private Duration windowDuration;
+        private int minimumCalls;
+        private double failureRateThreshold;
+        private double slowCallRateThreshold;
+        private long slowCallMs;
+        private Duration openDuration;
+        private int halfOpenProbes;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Snapshot {
+        private String provider;
+        private State state;
+        private int calls;
+        private double failureRate;
+        private double slowCallRate;
+        private double healthScore;
+        private Instant retryAt;
+    }
+}
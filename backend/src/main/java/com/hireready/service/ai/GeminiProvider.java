@@ -0,0 +1,115 @@
+package com.hireready.service.ai;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Google Gemini generateContent / streamGenerateContent
+ */
+@Component
+public class GeminiProvider extends HttpAIProvider {
+
+    @Value("${ai.gemini.api.key}")
+    private String geminiApiKey;
+
+    @Value("${ai.gemini.api.url}")
+    private String geminiApiUrl;
+
+    @Value("${ai.gemini.stream.url}")
+    private String geminiStreamUrl;
+
+    public GeminiProvider(OkHttpClient aiHttpClient, @Qualifier("aiCallbackExecutor") Executor callbackExecutor,
+            ProviderLimits providerLimits) {
+        super(aiHttpClient, callbackExecutor, providerLimits);
+    }
+
+    @Override
+    public String getName() {
+        return "gemini";
+    }
+
+    @Override
+    public CompletableFuture<String> generate(String prompt) {
+        return executeAsync(buildRequest(prompt, geminiApiUrl + "?key=" + geminiApiKey), this::parseResponse);
+    }
+
+    @Override
+    public String stream(String prompt, Consumer<String> onToken) throws IOException {
+        Request request = buildRequest(prompt, geminiStreamUrl + "?alt=sse&key=" + geminiApiKey).newBuilder()
+                .addHeader("Accept", "text/event-stream")
+                .build();
+
+        return streamEvents(request, onToken, chunk -> {
+            JsonArray candidates = chunk.getAsJsonArray("candidates");
+            if (candidates == null || candidates.isEmpty()) {
+                return null;
+            }
+            JsonObject content = candidates.get(0).getAsJsonObject().getAsJsonObject("content");
+            if (content == null || !content.has("parts")) {
+                return null;
+            }
+            StringBuilder text = new StringBuilder();
+            for (JsonElement part : content.getAsJsonArray("parts")) {
+                JsonObject partObj = part.getAsJsonObject();
+                if (partObj.has("text")) {
+                    text.append(partObj.get("text").getAsString());
+                }
+            }
+            return text.toString();
+        });
+    }
+
+    private Request buildRequest(String prompt, String url) {
+        JsonObject requestBody = new JsonObject();
+        JsonArray contents = new JsonArray();
+        JsonObject content = new JsonObject();
+        JsonArray parts = new JsonArray();
+        JsonObject part = new JsonObject();
+
+        part.addProperty("text", prompt);
+        parts.add(part);
+        content.add("parts", parts);
+        contents.add(content);
+        requestBody.add("contents", contents);
+
+        RequestBody body = RequestBody.create(
+                requestBody.toString(),
+                MediaType.parse("application/json"));
+
+        return new Request.Builder()
+                .url(url)
+                .post(body)
+                .addHeader("Content-Type", "application/json")
+                .build();
+    }
+
+    private String parseResponse(Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            throw new IOException("Gemini API request failed: " + response.code() + " - " + response.message());
+        }
+
+        String responseBody = response.body().string();
+        JsonObject jsonResponse = gson.fromJson(responseBody, JsonObject.class);
+
+        return jsonResponse.getAsJsonArray("candidates")
+                .get(0).getAsJsonObject()
+                .getAsJsonObject("content")
+                .getAsJsonArray("parts")
+                .get(0).getAsJsonObject()
+                .get("text").getAsString();
+    }
+}
@@ -0,0 +1,121 @@
+package com.hireready.service.ai;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Groq chat completions (OpenAI-compatible)
+ */
+@Slf4j
+@Component
+public class GroqProvider extends HttpAIProvider {
+
+    @Value("${ai.groq.api.key}")
+    private String groqApiKey;
+
+    @Value("${ai.groq.api.url}")
+    private String groqApiUrl;
+
+    @Value("${ai.groq.model}")
+    private String groqModel;
+
+    public GroqProvider(OkHttpClient aiHttpClient, @Qualifier("aiCallbackExecutor") Executor callbackExecutor,
+            ProviderLimits providerLimits) {
+        super(aiHttpClient, callbackExecutor, providerLimits);
+    }
+
+    @Override
+    public String getName() {
+        return "groq";
+    }
+
+    @Override
+    public CompletableFuture<String> generate(String prompt) {
+        return executeAsync(buildRequest(prompt, false), this::parseResponse);
+    }
+
+    @Override
+    public String stream(String prompt, Consumer<String> onToken) throws IOException {
+        Request request = buildRequest(prompt, true).newBuilder()
+                .addHeader("Accept", "text/event-stream")
+                .build();
+
+        return streamEvents(request, onToken, chunk -> {
+            JsonArray choices = chunk.getAsJsonArray("choices");
+            if (choices == null || choices.isEmpty()) {
+                return null;
+            }
+            JsonObject delta = choices.get(0).getAsJsonObject().getAsJsonObject("delta");
+            if (delta == null || !delta.has("content") || delta.get("content").isJsonNull()) {
+                return null;
+            }
+            return delta.get("content").getAsString();
+        });
+    }
+
+    private Request buildRequest(String prompt, boolean stream) {
+        JsonObject requestBody = new JsonObject();
+        requestBody.addProperty("model", groqModel);
+
+        JsonArray messages = new JsonArray();
+        JsonObject message = new JsonObject();
+        message.addProperty("role", "user");
+        message.addProperty("content", prompt);
+        messages.add(message);
+
+        requestBody.add("messages", messages);
+        requestBody.addProperty("temperature", 0.7);
+        requestBody.addProperty("max_tokens", 4000); // Increased from 2000 to 4000
+        if (stream) {
+            requestBody.addProperty("stream", true);
+        }
+
+        RequestBody body = RequestBody.create(
+                requestBody.toString(),
+                MediaType.parse("application/json"));
+
+        return new Request.Builder()
+                .url(groqApiUrl)
+                .post(body)
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Authorization", "Bearer " + groqApiKey)
+                .build();
+    }
+
+    private String parseResponse(Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            String errorBody = response.body() != null ? response.body().string() : "No error body";
+            log.error("Groq API request failed: {} - {} - {}", response.code(), response.message(), errorBody);
+            throw new IOException("Groq API request failed: " + response.code() + " - " + response.message());
+        }
+
+        String responseBody = response.body().string();
+        log.debug("Groq API response: {}", responseBody);
+
+        JsonObject jsonResponse = gson.fromJson(responseBody, JsonObject.class);
+
+        // Extract content from response
+        if (jsonResponse.has("choices") && jsonResponse.getAsJsonArray("choices").size() > 0) {
+            JsonObject firstChoice = jsonResponse.getAsJsonArray("choices").get(0).getAsJsonObject();
+            if (firstChoice.has("message")) {
+                return firstChoice.getAsJsonObject("message").get("content").getAsString();
+            }
+        }
+
+        throw new IOException("Unexpected Groq API response format");
+    }
+}
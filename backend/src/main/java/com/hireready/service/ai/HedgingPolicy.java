@@ -0,0 +1,161 @@
+package com.hireready.service.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides when a slow primary AI call should be hedged with a call to the
+ * secondary provider, and records the outcome of every hedged request.
+ *
+ * The hedge delay for an operation is taken from
+ * {@code ai.hedge.delay.ms.<operation>} (falling back to
+ * {@code ai.hedge.delay.ms}). A delay of zero or less turns hedging off for the
+ * operation, which is the default: a hedge doubles the provider calls of every
+ * slow request, so only operations a user is waiting on configure a delay.
+ * With {@code ai.hedge.adaptive=true} the observed p95 latency of the current
+ * primary provider for that operation is used instead once enough samples
+ * exist, never exceeding the configured delay.
+ */
+@Slf4j
+@Component
+public class HedgingPolicy {
+
+    private static final int WINDOW_SIZE = 256;
+    private static final int MIN_ADAPTIVE_SAMPLES = 20;
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LatencyWindow> primaryLatencies = new ConcurrentHashMap<>();
+
+    @Value("${ai.hedge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.hedge.delay.ms:0}")
+    private long defaultDelayMs;
+
+    @Value("${ai.hedge.min.delay.ms:1000}")
+    private long minDelayMs;
+
+    @Value("${ai.hedge.adaptive:true}")
+    private boolean adaptive;
+
+    public HedgingPolicy(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Whether slow requests for the operation are hedged at all
+     */
+    public boolean isEnabled(String operation) {
+        return enabled && configuredDelayMs(operation) > 0;
+    }
+
+    /**
+     * How long to wait for the primary provider before firing the secondary
+     */
+    public long hedgeDelayMs(String operation, String provider) {
+        long configured = configuredDelayMs(operation);
+        if (!adaptive) {
+            return configured;
+        }
+
+        LatencyWindow window = primaryLatencies.get(operation + ":" + provider);
+        if (window == null || window.size() < MIN_ADAPTIVE_SAMPLES) {
+            return configured;
+        }
+        return Math.max(minDelayMs, Math.min(configured, window.percentile(0.95)));
+    }
+
+    private long configuredDelayMs(String operation) {
+        return environment.getProperty("ai.hedge.delay.ms." + operation, Long.class, defaultDelayMs);
+    }
+
+    public void recordRequest(String operation) {
+        Counter.builder("ai.hedge.requests")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordHedgeFired(String operation) {
+        log.info("Hedging {} request with secondary provider", operation);
+        Counter.builder("ai.hedge.fired")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordWin(String operation, String provider, boolean hedged, long latencyMs) {
+        Counter.builder("ai.hedge.wins")
+                .tag("operation", operation)
+                .tag("provider", provider)
+                .tag("hedged", String.valueOf(hedged))
+                .register(meterRegistry)
+                .increment();
+        Timer.builder("ai.request.latency")
+                .tag("operation", operation)
+                .tag("provider", provider)
+                .register(meterRegistry)
+                .record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Record how long the primary provider took, whether or not it won, so the
+     * adaptive threshold tracks the primary's real latency distribution
+     */
+    public void recordPrimaryLatency(String operation, String provider, long latencyMs) {
+        primaryLatencies.computeIfAbsent(operation + ":" + provider, key -> registerWindow(operation, provider))
+                .add(latencyMs);
+    }
+
+    private LatencyWindow registerWindow(String operation, String provider) {
+        LatencyWindow window = new LatencyWindow(WINDOW_SIZE);
+        Gauge.builder("ai.hedge.delay.ms", () -> hedgeDelayMs(operation, provider))
+                .tag("operation", operation)
+                .tag("provider", provider)
+                .register(meterRegistry);
+        return window;
+    }
+
+    /**
+     * Fixed-size ring buffer of recent latencies
+     */
+    private static final class LatencyWindow {
+        private final long[] samples;
+        private int next;
+        private int count;
+
+        LatencyWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        synchronized void add(long latencyMs) {
+            samples[next] = latencyMs;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        synchronized int size() {
+            return count;
+        }
+
+        synchronized long percentile(double quantile) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(quantile * count) - 1;
+            return sorted[Math.max(0, Math.min(index, count - 1))];
+        }
+    }
+}
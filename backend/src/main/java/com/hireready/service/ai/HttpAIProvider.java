@@ -0,0 +1,223 @@
+package com.hireready.service.ai;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Base class for providers reached over HTTP with OkHttp
+ */
+public abstract class HttpAIProvider implements AIProvider {
+
+    private static final Pattern DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|h|m|s)");
+
+    protected final OkHttpClient httpClient;
+    protected final Executor callbackExecutor;
+    protected final ProviderLimits providerLimits;
+    protected final Gson gson = new Gson();
+
+    protected HttpAIProvider(OkHttpClient httpClient, Executor callbackExecutor, ProviderLimits providerLimits) {
+        this.httpClient = httpClient;
+        this.callbackExecutor = callbackExecutor;
+        this.providerLimits = providerLimits;
+    }
+
+    /**
+     * Enqueue the request on OkHttp's dispatcher. The parsed result is handed to
+     * the callback executor so dependent stages never run on, and hold, a
+     * dispatcher thread. Cancelling the returned future cancels the HTTP call.
+     */
+    protected CompletableFuture<String> executeAsync(Request request, ResponseParser parser) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        Call call = httpClient.newCall(request);
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call failedCall, IOException e) {
+                completeOnCallbackExecutor(() -> future.completeExceptionally(e));
+            }
+
+            @Override
+            public void onResponse(Call completedCall, Response response) {
+                try (response) {
+                    checkRateLimits(response);
+                    String result = parser.parse(response);
+                    completeOnCallbackExecutor(() -> future.complete(result));
+                } catch (Exception e) {
+                    completeOnCallbackExecutor(() -> future.completeExceptionally(e));
+                }
+            }
+        });
+
+        future.whenComplete((result, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Hand the completion to the callback executor. If it rejects the task,
+     * because its queue is full or it is shutting down, complete on the
+     * dispatcher thread rather than leave the future pending forever.
+     */
+    private void completeOnCallbackExecutor(Runnable completion) {
+        try {
+            callbackExecutor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            completion.run();
+        }
+    }
+
+    /**
+     * Read a server-sent event stream, passing the text of every data chunk to
+     * the consumer, and return the assembled text
+     */
+    protected String streamEvents(Request request, Consumer<String> onToken,
+            Function<JsonObject, String> chunkText) throws IOException {
+        StringBuilder assembled = new StringBuilder();
+        try (Response response = httpClient.newCall(request).execute()) {
+            checkRateLimits(response);
+            if (!response.isSuccessful()) {
+                throw new IOException(getName() + " streaming request failed: " + response.code() + " - "
+                        + response.message());
+            }
+
+            BufferedSource source = response.body().source();
+            String line;
+            while ((line = source.readUtf8Line()) != null) {
+                if (!line.startsWith("data:")) {
+                    continue;
+                }
+                String data = line.substring(5).trim();
+                if (data.equals("[DONE]")) {
+                    break;
+                }
+
+                String token = chunkText.apply(gson.fromJson(data, JsonObject.class));
+                if (token != null && !token.isEmpty()) {
+                    assembled.append(token);
+                    onToken.accept(token);
+                }
+            }
+        }
+
+        if (assembled.length() == 0) {
+            throw new IOException(getName() + " stream returned no content");
+        }
+        return assembled.toString();
+    }
+
+    /**
+     * Turn a 429 into a {@link RateLimitedException} carrying the provider's
+     * back-off, and pause the provider's limiter when the response reports its
+     * request or token quota as used up
+     */
+    private void checkRateLimits(Response response) throws RateLimitedException {
+        if (response.code() == 429) {
+            Duration retryAfter = retryAfter(response);
+            throw new RateLimitedException(getName() + " API rate limited (429)", retryAfter);
+        }
+
+        Duration resetRequests = exhaustedUntilReset(response, "requests");
+        Duration resetTokens = exhaustedUntilReset(response, "tokens");
+        Duration reset = resetRequests == null ? resetTokens
+                : resetTokens == null ? resetRequests : max(resetRequests, resetTokens);
+        if (reset != null) {
+            providerLimits.forProvider(getName()).pause(reset);
+        }
+    }
+
+    /**
+     * Back-off from Retry-After (seconds or an HTTP date), falling back to the
+     * reset headers of whichever quota ran out
+     */
+    private Duration retryAfter(Response response) {
+        String header = response.header("Retry-After");
+        if (header != null) {
+            try {
+                return Duration.ofMillis((long) (Double.parseDouble(header.trim()) * 1000));
+            } catch (NumberFormatException e) {
+                try {
+                    Instant at = ZonedDateTime.parse(header.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                    Duration wait = Duration.between(Instant.now(), at);
+                    return wait.isNegative() ? Duration.ZERO : wait;
+                } catch (DateTimeParseException ignored) {
+                    // Fall through to the rate-limit headers
+                }
+            }
+        }
+
+        Duration requests = parseDuration(response.header("x-ratelimit-reset-requests"));
+        Duration tokens = parseDuration(response.header("x-ratelimit-reset-tokens"));
+        return requests == null ? tokens : tokens == null ? requests : max(requests, tokens);
+    }
+
+    private Duration exhaustedUntilReset(Response response, String quota) {
+        String remaining = response.header("x-ratelimit-remaining-" + quota);
+        if (remaining == null) {
+            return null;
+        }
+        try {
+            if (Long.parseLong(remaining.trim()) > 0) {
+                return null;
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return parseDuration(response.header("x-ratelimit-reset-" + quota));
+    }
+
+    /**
+     * Parse reset durations such as "7.66s", "2m59.56s" or "120ms"
+     */
+    static Duration parseDuration(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        Matcher matcher = DURATION_PART.matcher(value.trim());
+        double millis = 0;
+        boolean matched = false;
+        while (matcher.find()) {
+            double amount = Double.parseDouble(matcher.group(1));
+            millis += switch (matcher.group(2)) {
+                case "h" -> amount * 3_600_000;
+                case "m" -> amount * 60_000;
+                case "s" -> amount * 1000;
+                default -> amount;
+            };
+            matched = true;
+        }
+        return matched ? Duration.ofMillis((long) Math.ceil(millis)) : null;
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    @FunctionalInterface
+    protected interface ResponseParser {
+        String parse(Response response) throws IOException;
+    }
+}
@@ -0,0 +1,376 @@
+package com.hireready.service.ai;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.hireready.dto.ai.AnswerEvaluationResult;
+import com.hireready.dto.ai.AnswerScoreResult;
+import com.hireready.dto.ai.AtsAnalysisResult;
+import com.hireready.dto.ai.FinalReportResult;
+import com.hireready.dto.ai.InterviewFeedbackResult;
+import com.hireready.dto.ai.InterviewQuestionResult;
+import com.hireready.dto.ai.Required;
+import com.hireready.dto.ai.ResumeParseResult;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Decodes JSON out of raw LLM responses.
+ *
+ * Models wrap JSON in code fences or prose and now and then emit slightly broken
+ * JSON. {@link #extract} scans the response once, from the first '{' or '[' to
+ * the bracket that balances it, repairing the usual defects on the way: smart
+ * quotes used as string delimiters, raw newlines inside strings, trailing
+ * commas, and output cut off mid-value (the incomplete member is dropped and
+ * open strings and containers are closed). {@link #decode} then reads the
+ * repaired text straight into the target type with a lenient streaming reader.
+ * If the first candidate value does not parse, the next few are tried before
+ * giving up with a {@link JsonParseException}.
+ *
+ * Decoding uses one Gson instance with {@link TolerantTypeAdapterFactory}, so a
+ * malformed field reads as null and is defaulted by the response record rather
+ * than failing the whole response. Fields marked {@link Required} are the
+ * exception: a response missing one counts as a failed candidate, and a list
+ * element missing one is dropped. Adapters for the AI response records are
+ * resolved once at startup and reused.
+ */
+@Component
+public class LlmJsonCodec {
+
+    private static final int MAX_CANDIDATES = 3;
+    private static final Pattern LITERAL = Pattern.compile(
+            "-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?|true|false|null");
+
+    /**
+     * A JSON array of strings, tolerating objects like {"name": "..."} as elements
+     */
+    public static final Type STRING_LIST = TypeToken.getParameterized(List.class, String.class).getType();
+
+    /**
+     * A JSON array of per-question scores from a batch answer evaluation
+     */
+    public static final Type ANSWER_SCORE_LIST = TypeToken.getParameterized(List.class, AnswerScoreResult.class)
+            .getType();
+
+    private static final List<Type> RESPONSE_TYPES = List.of(ResumeParseResult.class, AtsAnalysisResult.class,
+            InterviewQuestionResult.class, AnswerEvaluationResult.class, InterviewFeedbackResult.class,
+            FinalReportResult.class, STRING_LIST, ANSWER_SCORE_LIST);
+
+    private final Gson gson;
+    private final Map<Type, TypeAdapter<?>> adapters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<RecordComponent>> requiredFields = new ConcurrentHashMap<>();
+
+    public LlmJsonCodec() {
+        this.gson = new GsonBuilder()
+                .registerTypeAdapterFactory(new TolerantTypeAdapterFactory())
+                .create();
+        RESPONSE_TYPES.forEach(this::adapter);
+    }
+
+    /**
+     * Decode the first JSON value in the response into the given type
+     */
+    public <T> T decode(String response, Class<T> type) {
+        return decode(response, (Type) type);
+    }
+
+    /**
+     * Decode the first JSON value in the response into the given type
+     */
+    public <T> T decode(String response, Type type) {
+        if (response == null) {
+            throw new JsonParseException("AI response is empty");
+        }
+
+        TypeAdapter<T> adapter = adapter(type);
+        JsonParseException failure = null;
+        int from = 0;
+        for (int attempt = 0; attempt < MAX_CANDIDATES; attempt++) {
+            int start = findValueStart(response, from);
+            if (start < 0) {
+                break;
+            }
+            Candidate candidate = repair(response, start);
+            try {
+                JsonReader reader = new JsonReader(new StringReader(candidate.json()));
+                reader.setLenient(true);
+                T value = adapter.read(reader);
+                if (value != null) {
+                    checkRequired(value);
+                    return value;
+                }
+            } catch (JsonParseException e) {
+                failure = e;
+            } catch (IOException | IllegalStateException | NumberFormatException e) {
+                failure = new JsonSyntaxException(e);
+            }
+            // Never retry inside the failed value, where a nested object could be
+            // mistaken for the whole response
+            from = candidate.end();
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        throw new JsonParseException("No JSON value found in AI response");
+    }
+
+    /**
+     * The repaired text of the first JSON value in the response
+     */
+    public String extract(String response) {
+        int start = response == null ? -1 : findValueStart(response, 0);
+        if (start < 0) {
+            throw new JsonParseException("No JSON value found in AI response");
+        }
+        return repair(response, start).json();
+    }
+
+    /**
+     * Fail a record missing a required field, and drop list elements that are
+     * missing one
+     */
+    private void checkRequired(Object value) {
+        if (value instanceof Collection<?> elements) {
+            elements.removeIf(element -> element != null && missingRequired(element) != null);
+            return;
+        }
+        String missing = missingRequired(value);
+        if (missing != null) {
+            throw new JsonParseException("AI response is missing required field " + missing);
+        }
+    }
+
+    /**
+     * The name of the first required field the value has no value for, or null
+     */
+    private String missingRequired(Object value) {
+        List<RecordComponent> required = requiredFields.computeIfAbsent(value.getClass(), type ->
+                !type.isRecord() ? List.of() : Arrays.stream(type.getRecordComponents())
+                        .filter(component -> component.isAnnotationPresent(Required.class))
+                        .toList());
+        for (RecordComponent component : required) {
+            try {
+                if (component.getAccessor().invoke(value) == null) {
+                    return component.getName();
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot read " + component.getName(), e);
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TypeAdapter<T> adapter(Type type) {
+        return (TypeAdapter<T>) adapters.computeIfAbsent(type, key -> gson.getAdapter(TypeToken.get(key)));
+    }
+
+    private static int findValueStart(String response, int from) {
+        for (int i = from; i < response.length(); i++) {
+            char c = response.charAt(i);
+            if (c == '{' || c == '[') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Copy the value starting at the given bracket, repairing it as it goes.
+     * Runs of ordinary characters are copied in bulk; only quotes, escapes,
+     * control characters and structural characters are looked at one by one.
+     */
+    private static Candidate repair(String response, int start) {
+        int length = response.length();
+        StringBuilder out = new StringBuilder(length - start + 8);
+        List<Frame> stack = new ArrayList<>();
+
+        boolean inString = false;
+        char closingQuote = '"';
+        boolean stringIsKey = false;
+
+        scan:
+        for (int i = start; i < length; i++) {
+            char c = response.charAt(i);
+
+            if (inString) {
+                int run = i;
+                while (i < length && !isStringSpecial(c = response.charAt(i), closingQuote)) {
+                    i++;
+                }
+                out.append(response, run, i);
+                if (i == length) {
+                    break;
+                }
+
+                if (c == '\\') {
+                    if (i + 1 == length) {
+                        // Dangling escape at the cut-off point
+                        break;
+                    }
+                    out.append(c).append(response.charAt(++i));
+                } else if (c == closingQuote || (closingQuote == '\u201D' && c == '"')) {
+                    // Strings opened with a smart quote may be closed with either kind
+                    out.append(closingQuote == '\'' ? '\'' : '"');
+                    inString = false;
+                } else if (c == '\n') {
+                    out.append("\\n");
+                } else if (c == '\r') {
+                    out.append("\\r");
+                } else if (c == '\t') {
+                    out.append("\\t");
+                } else if (c < ' ') {
+                    out.append(String.format("\\u%04x", (int) c));
+                } else {
+                    // A double quote inside a single-quoted string
+                    out.append(c);
+                }
+                continue;
+            }
+
+            Frame top = stack.isEmpty() ? null : stack.get(stack.size() - 1);
+            switch (c) {
+                case '"', '\u201C', '\u201D', '\'' -> {
+                    inString = true;
+                    closingQuote = c == '\u201C' ? '\u201D' : c;
+                    stringIsKey = top != null && top.object && !top.awaitingValue;
+                    out.append(c == '\'' ? '\'' : '"');
+                }
+                case '{', '[' -> {
+                    out.append(c);
+                    stack.add(new Frame(c == '{', out.length()));
+                }
+                case '}', ']' -> {
+                    if (top == null) {
+                        continue;
+                    }
+                    stripTrailingComma(out);
+                    out.append(top.object ? '}' : ']');
+                    stack.remove(stack.size() - 1);
+                    if (stack.isEmpty()) {
+                        return new Candidate(out.toString(), i + 1);
+                    }
+                }
+                case ',' -> {
+                    out.append(c);
+                    if (top != null) {
+                        top.memberStart = out.length();
+                        top.awaitingValue = false;
+                    }
+                }
+                case ':' -> {
+                    out.append(c);
+                    if (top != null) {
+                        top.awaitingValue = true;
+                        top.valueStart = out.length();
+                    }
+                }
+                case '`' -> {
+                    // A closing code fence: the value was cut off before it
+                    break scan;
+                }
+                default -> {
+                    // Whitespace, numbers, literals and unquoted names
+                    int run = i;
+                    while (i + 1 < length && !isStructural(response.charAt(i + 1))) {
+                        i++;
+                    }
+                    out.append(response, run, i + 1);
+                }
+            }
+        }
+
+        // Truncated: finish or drop the member being written, then close up
+        if (inString) {
+            out.append(closingQuote == '\'' ? '\'' : '"');
+        }
+
+        for (int depth = stack.size() - 1; depth >= 0; depth--) {
+            Frame frame = stack.get(depth);
+            if (depth == stack.size() - 1 && !memberComplete(out, frame, inString && stringIsKey)) {
+                out.setLength(frame.memberStart);
+            }
+            stripTrailingComma(out);
+            out.append(frame.object ? '}' : ']');
+        }
+        return new Candidate(out.toString(), length);
+    }
+
+    private static boolean isStringSpecial(char c, char closingQuote) {
+        return c == closingQuote || c == '"' || c == '\\' || c < ' ';
+    }
+
+    private static boolean isStructural(char c) {
+        return switch (c) {
+            case '"', '\u201C', '\u201D', '\'', '{', '[', '}', ']', ',', ':', '`' -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Whether the innermost member at the point of truncation holds a usable
+     * value. Nested containers were closed complete, and a cut-off string value
+     * is kept as far as it got.
+     */
+    private static boolean memberComplete(StringBuilder out, Frame frame, boolean truncatedKey) {
+        if (truncatedKey || (frame.object && !frame.awaitingValue)) {
+            return false;
+        }
+
+        String value = out.substring(frame.object ? frame.valueStart : frame.memberStart).trim();
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '"' || first == '\'' || first == '{' || first == '['
+                || LITERAL.matcher(value).matches();
+    }
+
+    private static void stripTrailingComma(StringBuilder out) {
+        int end = out.length();
+        while (end > 0 && Character.isWhitespace(out.charAt(end - 1))) {
+            end--;
+        }
+        if (end > 0 && out.charAt(end - 1) == ',') {
+            out.setLength(end - 1);
+        }
+    }
+
+    /**
+     * Repaired text of one candidate value and the index just past it in the
+     * response
+     */
+    private record Candidate(String json, int end) {
+    }
+
+    /**
+     * An open object or array
+     */
+    private static final class Frame {
+        private final boolean object;
+        private int memberStart;
+        private int valueStart;
+        private boolean awaitingValue;
+
+        private Frame(boolean object, int memberStart) {
+            this.object = object;
+            this.memberStart = memberStart;
+        }
+    }
+}
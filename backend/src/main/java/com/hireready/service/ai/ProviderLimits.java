@@ -0,0 +1,81 @@
+package com.hireready.service.ai;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Adaptive concurrency limiters, one per AI provider, created on first use.
+ * Providers report rate-limit headers here and AIService runs every call
+ * through the provider's limiter.
+ */
+@Component
+public class ProviderLimits {
+
+    private final Map<String, AdaptiveLimiter> limiters = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final AdaptiveLimiter.Settings settings;
+
+    public ProviderLimits(Clock clock,
+            @Qualifier("aiCallbackExecutor") Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${ai.limiter.initial.limit:16}") double initialLimit,
+            @Value("${ai.limiter.min.limit:1}") double minLimit,
+            @Value("${ai.limiter.max.limit:64}") double maxLimit,
+            @Value("${ai.limiter.backoff.ratio:0.5}") double backoffRatio,
+            @Value("${ai.limiter.queue.capacity:200}") int queueCapacity,
+            @Value("${ai.limiter.max.wait.ms:10000}") long maxWaitMs,
+            @Value("${ai.limiter.default.retry.ms:1000}") long defaultRetryMs) {
+        this.clock = clock;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.settings = new AdaptiveLimiter.Settings(initialLimit, minLimit, maxLimit, backoffRatio, queueCapacity,
+                Duration.ofMillis(maxWaitMs), Duration.ofMillis(defaultRetryMs));
+    }
+
+    public AdaptiveLimiter forProvider(String provider) {
+        return limiters.computeIfAbsent(provider, this::register);
+    }
+
+    public List<AdaptiveLimiter.Snapshot> snapshots() {
+        return limiters.values().stream().map(AdaptiveLimiter::snapshot).toList();
+    }
+
+    private AdaptiveLimiter register(String provider) {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(provider, settings, clock, executor);
+
+        Gauge.builder("ai.limiter.limit", limiter, AdaptiveLimiter::currentLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("ai.limiter.inflight", limiter, AdaptiveLimiter::inFlight)
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("ai.limiter.queue.depth", limiter, AdaptiveLimiter::queueDepth)
+                .tag("provider", provider)
+                .register(meterRegistry);
+        FunctionCounter.builder("ai.limiter.throttled", limiter, AdaptiveLimiter::throttledCount)
+                .description("Calls answered with 429")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        for (String reason : List.of("queue_full", "timeout")) {
+            FunctionCounter.builder("ai.limiter.rejected", limiter, l -> l.rejectedCount(reason))
+                    .tag("provider", provider)
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+        return limiter;
+    }
+}
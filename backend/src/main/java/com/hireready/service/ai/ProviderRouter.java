@@ -0,0 +1,125 @@
+package com.hireready.service.ai;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders AI providers for each request by circuit breaker state and health.
+ * Providers keep their configured priority unless another one is healthier by
+ * more than the routing margin, so a degraded primary stops taking first-choice
+ * traffic while an open breaker only sees occasional half-open probes.
+ * Providers backing off from a 429 go to the back of the list.
+ */
+@Slf4j
+@Component
+public class ProviderRouter {
+
+    private final List<AIProvider> providers;
+    private final Map<String, CircuitBreaker> breakers = new LinkedHashMap<>();
+    private final ProviderLimits providerLimits;
+    private final double routingMargin;
+
+    public ProviderRouter(List<AIProvider> providers,
+            ProviderLimits providerLimits,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${ai.provider.priority:groq,gemini}") List<String> priority,
+            @Value("${ai.routing.health.margin:0.2}") double routingMargin,
+            @Value("${ai.breaker.window.size:50}") int windowSize,
+            @Value("${ai.breaker.window.seconds:60}") long windowSeconds,
+            @Value("${ai.breaker.minimum.calls:10}") int minimumCalls,
+            @Value("${ai.breaker.failure.rate.threshold:0.5}") double failureRateThreshold,
+            @Value("${ai.breaker.slow.call.rate.threshold:0.8}") double slowCallRateThreshold,
+            @Value("${ai.breaker.slow.call.ms:20000}") long slowCallMs,
+            @Value("${ai.breaker.open.seconds:30}") long openSeconds,
+            @Value("${ai.breaker.half.open.probes:2}") int halfOpenProbes) {
+        this.providers = new ArrayList<>(providers);
+        this.providers.sort(Comparator.comparingInt(provider -> {
+            int index = priority.indexOf(provider.getName());
+            return index < 0 ? Integer.MAX_VALUE : index;
+        }));
+        this.providerLimits = providerLimits;
+        this.routingMargin = routingMargin;
+
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(windowSize,
+                Duration.ofSeconds(windowSeconds), minimumCalls, failureRateThreshold, slowCallRateThreshold,
+                slowCallMs, Duration.ofSeconds(openSeconds), halfOpenProbes);
+
+        for (AIProvider provider : this.providers) {
+            CircuitBreaker breaker = new CircuitBreaker(provider.getName(), settings, clock);
+            breakers.put(provider.getName(), breaker);
+
+            Gauge.builder("ai.breaker.state", breaker, b -> b.snapshot().getState().ordinal())
+                    .description("0=closed, 1=open, 2=half-open")
+                    .tag("provider", provider.getName())
+                    .register(meterRegistry);
+            Gauge.builder("ai.provider.health", breaker, CircuitBreaker::healthScore)
+                    .tag("provider", provider.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Providers that may currently take a call, best first
+     */
+    public List<AIProvider> route() {
+        List<AIProvider> candidates = new ArrayList<>();
+        List<Double> scores = new ArrayList<>();
+        for (AIProvider provider : providers) {
+            CircuitBreaker breaker = breakers.get(provider.getName());
+            if (breaker.isCallPermitted()) {
+                candidates.add(provider);
+                scores.add(breaker.healthScore());
+            }
+        }
+
+        // Stable insertion sort: only jump ahead of a higher-priority provider
+        // when clearly healthier
+        for (int i = 1; i < candidates.size(); i++) {
+            int j = i;
+            while (j > 0 && scores.get(j) - scores.get(j - 1) > routingMargin) {
+                swap(candidates, j, j - 1);
+                swap(scores, j, j - 1);
+                j--;
+            }
+        }
+
+        List<AIProvider> paused = candidates.stream().filter(provider -> limiter(provider).isPaused()).toList();
+        candidates.removeAll(paused);
+        candidates.addAll(paused);
+        return candidates;
+    }
+
+    public CircuitBreaker breaker(AIProvider provider) {
+        return breakers.get(provider.getName());
+    }
+
+    public AdaptiveLimiter limiter(AIProvider provider) {
+        return providerLimits.forProvider(provider.getName());
+    }
+
+    public List<AdaptiveLimiter.Snapshot> limiterSnapshots() {
+        return providers.stream().map(provider -> limiter(provider).snapshot()).toList();
+    }
+
+    public List<CircuitBreaker.Snapshot> snapshots() {
+        return breakers.values().stream().map(CircuitBreaker::snapshot).toList();
+    }
+
+    private static <T> void swap(List<T> list, int i, int j) {
+        T tmp = list.get(i);
+        list.set(i, list.get(j));
+        list.set(j, tmp);
+    }
+}
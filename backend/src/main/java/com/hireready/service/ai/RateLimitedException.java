@@ -0,0 +1,26 @@
+package com.hireready.service.ai;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * A provider answered 429, or its limiter could not admit the request within
+ * the allowed wait. Neither says anything about the provider's health, so
+ * circuit breakers ignore it.
+ */
+public class RateLimitedException extends IOException {
+
+    private final Duration retryAfter;
+
+    public RateLimitedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * How long the provider asked us to back off, or null if it didn't say
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
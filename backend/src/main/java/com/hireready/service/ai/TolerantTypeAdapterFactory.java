@@ -0,0 +1,232 @@
+package com.hireready.service.ai;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Type adapters that read what a model meant rather than failing on what it
+ * wrote. A value of the wrong shape is skipped and read as null, so the
+ * response record's constructor can default that one field instead of the whole
+ * response being rejected.
+ *
+ * Strings accept numbers and booleans, numbers and booleans accept quoted
+ * values, and lists of strings accept a single string or objects such as
+ * {"name": "..."}, taking the first recognised field. Other lists drop elements
+ * that could not be read.
+ */
+final class TolerantTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final List<String> LABEL_KEYS = List.of("name", "value", "skill", "achievement", "weakness",
+            "recommendation", "keyword", "description", "company", "role", "position");
+
+    private static final TypeAdapter<String> STRING = new ReadOnlyAdapter<>() {
+        @Override
+        public String read(JsonReader in) throws IOException {
+            return switch (in.peek()) {
+                case STRING, NUMBER -> in.nextString();
+                case BOOLEAN -> String.valueOf(in.nextBoolean());
+                default -> skip(in);
+            };
+        }
+    };
+
+    private static final TypeAdapter<Double> DOUBLE = new ReadOnlyAdapter<>() {
+        @Override
+        public Double read(JsonReader in) throws IOException {
+            return parseNumber(in);
+        }
+    };
+
+    private static final TypeAdapter<Integer> INTEGER = new ReadOnlyAdapter<>() {
+        @Override
+        public Integer read(JsonReader in) throws IOException {
+            Double value = parseNumber(in);
+            return value != null ? (int) Math.round(value) : null;
+        }
+    };
+
+    private static final TypeAdapter<Boolean> BOOLEAN = new ReadOnlyAdapter<>() {
+        @Override
+        public Boolean read(JsonReader in) throws IOException {
+            return switch (in.peek()) {
+                case BOOLEAN -> in.nextBoolean();
+                case STRING -> {
+                    String value = in.nextString().trim();
+                    yield value.equalsIgnoreCase("true") || value.equalsIgnoreCase("yes");
+                }
+                default -> skip(in);
+            };
+        }
+    };
+
+    private static final TypeAdapter<List<String>> STRING_LIST = new ReadOnlyAdapter<>() {
+        @Override
+        public List<String> read(JsonReader in) throws IOException {
+            switch (in.peek()) {
+                case STRING:
+                    return new ArrayList<>(List.of(in.nextString()));
+                case BEGIN_ARRAY:
+                    break;
+                default:
+                    return skip(in);
+            }
+
+            List<String> values = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                String value = switch (in.peek()) {
+                    case STRING, NUMBER -> in.nextString();
+                    case BEGIN_OBJECT -> readLabel(in);
+                    default -> skip(in);
+                };
+                if (value != null && !value.isBlank()) {
+                    values.add(value);
+                }
+            }
+            in.endArray();
+            return values;
+        }
+    };
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        if (raw == String.class) {
+            return (TypeAdapter<T>) STRING;
+        }
+        if (raw == Double.class || raw == double.class) {
+            return (TypeAdapter<T>) DOUBLE;
+        }
+        if (raw == Integer.class || raw == int.class) {
+            return (TypeAdapter<T>) INTEGER;
+        }
+        if (raw == Boolean.class || raw == boolean.class) {
+            return (TypeAdapter<T>) BOOLEAN;
+        }
+        if (List.class.isAssignableFrom(raw) && elementType(type.getType()) == String.class) {
+            return (TypeAdapter<T>) STRING_LIST;
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            return new ShapeCheckingAdapter<>(gson.getDelegateAdapter(this, type), JsonToken.BEGIN_ARRAY);
+        }
+        if (Map.class.isAssignableFrom(raw) || raw.isRecord()
+                || (raw.getName().startsWith("com.hireready.") && !raw.isEnum())) {
+            return new ShapeCheckingAdapter<>(gson.getDelegateAdapter(this, type), JsonToken.BEGIN_OBJECT);
+        }
+        return null;
+    }
+
+    private static Type elementType(Type type) {
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments().length == 1) {
+            return parameterized.getActualTypeArguments()[0];
+        }
+        return null;
+    }
+
+    private static Double parseNumber(JsonReader in) throws IOException {
+        switch (in.peek()) {
+            case NUMBER:
+                return in.nextDouble();
+            case STRING:
+                // "8", "8.5/10", "85%"
+                String value = in.nextString().trim();
+                int end = 0;
+                while (end < value.length()
+                        && (Character.isDigit(value.charAt(end)) || "+-.".indexOf(value.charAt(end)) >= 0)) {
+                    end++;
+                }
+                try {
+                    return end > 0 ? Double.parseDouble(value.substring(0, end)) : null;
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            default:
+                return skip(in);
+        }
+    }
+
+    /**
+     * Read a string out of an object like {"name": "Java"}, preferring the
+     * known label fields and otherwise taking the first primitive value
+     */
+    private static String readLabel(JsonReader in) throws IOException {
+        Map<String, String> fields = new LinkedHashMap<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            JsonToken token = in.peek();
+            if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+                fields.putIfAbsent(name, in.nextString());
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+
+        for (String key : LABEL_KEYS) {
+            if (fields.containsKey(key)) {
+                return fields.get(key);
+            }
+        }
+        return fields.values().stream().findFirst().orElse(null);
+    }
+
+    private static <T> T skip(JsonReader in) throws IOException {
+        in.skipValue();
+        return null;
+    }
+
+    /**
+     * Reads with the delegate only when the next token has the expected shape
+     */
+    private static final class ShapeCheckingAdapter<T> extends TypeAdapter<T> {
+        private final TypeAdapter<T> delegate;
+        private final JsonToken expected;
+
+        private ShapeCheckingAdapter(TypeAdapter<T> delegate, JsonToken expected) {
+            this.delegate = delegate;
+            this.expected = expected;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            delegate.write(out, value);
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            if (in.peek() != expected) {
+                return skip(in);
+            }
+            T value = delegate.read(in);
+            if (value instanceof Collection<?> collection) {
+                collection.removeIf(Objects::isNull);
+            }
+            return value;
+        }
+    }
+
+    private abstract static class ReadOnlyAdapter<T> extends TypeAdapter<T> {
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            throw new UnsupportedOperationException("LLM response adapters are read-only");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.hireready;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A minimal timing harness for the benchmark-tagged tests, which run with
+ * {@code mvn test -Pbenchmark}. Each operation runs for a number of warm-up
+ * iterations and then measured ones of a fixed duration; the time per
+ * operation of every measured iteration is kept. Iteration counts and length
+ * can be set with -Dbenchmark.warmup.iterations, -Dbenchmark.iterations and
+ * -Dbenchmark.iteration.ms.
+ */
+@Slf4j
+public final class MicroBenchmark {
+
+    private static final int WARMUP_ITERATIONS = Integer.getInteger("benchmark.warmup.iterations", 5);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10);
+    private static final long ITERATION_NANOS = TimeUnit.MILLISECONDS.toNanos(
+            Long.getLong("benchmark.iteration.ms", 500));
+
+    // Results are published here so the JIT cannot drop the work that made them
+    private static volatile Object sink;
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * Time the operation and log the result
+     */
+    public static Result run(String name, Callable<?> operation) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            iterate(operation);
+        }
+        double[] samples = new double[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            samples[i] = iterate(operation);
+        }
+
+        Arrays.sort(samples);
+        Result result = new Result(name, Arrays.stream(samples).average().orElse(0), samples[0],
+                samples[samples.length / 2], samples[samples.length - 1]);
+        log.info("{}", result);
+        return result;
+    }
+
+    /**
+     * Log how much faster the candidate is than the baseline, by mean time
+     */
+    public static double compare(Result baseline, Result candidate) {
+        double speedup = baseline.meanNanos() / candidate.meanNanos();
+        log.info("{} vs {}: {}x", candidate.name(), baseline.name(), String.format("%.2f", speedup));
+        return speedup;
+    }
+
+    /**
+     * Nanoseconds per call over one iteration
+     */
+    private static double iterate(Callable<?> operation) throws Exception {
+        long calls = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            sink = operation.call();
+            calls++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < ITERATION_NANOS);
+        return (double) elapsed / calls;
+    }
+
+    /**
+     * Time per operation across the measured iterations, in nanoseconds
+     */
+    public record Result(String name, double meanNanos, double minNanos, double medianNanos, double maxNanos) {
+
+        @Override
+        public String toString() {
+            return String.format("%-48s mean %10.1f us/op  (min %.1f, median %.1f, max %.1f)", name,
+                    meanNanos / 1_000, minNanos / 1_000, medianNanos / 1_000, maxNanos / 1_000);
+        }
+    }
+}
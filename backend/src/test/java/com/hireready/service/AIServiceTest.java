@@ -0,0 +1,165 @@
+package com.hireready.service;
+
+import com.hireready.exception.AIServiceException;
+import com.hireready.service.ai.CircuitBreaker;
+import com.hireready.service.ai.FakeAIProvider;
+import com.hireready.service.ai.HedgingPolicy;
+import com.hireready.service.ai.ProviderLimits;
+import com.hireready.service.ai.ProviderRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Hedging and failover across fake providers with real timing. Latencies are
+ * far enough apart that the slower path never wins by accident, and the routing
+ * margin is wide enough that providers keep their priority order; routing by
+ * health is covered by ProviderRouterTest.
+ */
+class AIServiceTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final FakeAIProvider groq = new FakeAIProvider("groq");
+    private final FakeAIProvider gemini = new FakeAIProvider("gemini").latency(20);
+    private ProviderRouter router;
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void usesPrimaryWithoutHedgingWhenItAnswersInTime() throws Exception {
+        AIService aiService = newService(300);
+        groq.latency(20);
+
+        assertThat(aiService.generateResponseAsync("prompt").get(5, TimeUnit.SECONDS)).isEqualTo(groq.answer());
+
+        Thread.sleep(500);
+        assertThat(gemini.calls()).isZero();
+    }
+
+    @Test
+    void hedgesSlowPrimaryAndCancelsTheLoser() throws Exception {
+        AIService aiService = newService(100);
+        groq.latency(10_000);
+
+        long start = System.nanoTime();
+        String response = aiService.generateResponseAsync("prompt").get(5, TimeUnit.SECONDS);
+
+        assertThat(response).isEqualTo(gemini.answer());
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+        awaitTrue(() -> groq.cancelled() == 1);
+        assertThat(state(groq)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void doesNotHedgeOperationWithoutHedgeDelay() throws Exception {
+        AIService aiService = newService(0);
+        groq.latency(500);
+
+        assertThat(aiService.generateResponseAsync("prompt").get(5, TimeUnit.SECONDS)).isEqualTo(groq.answer());
+        assertThat(gemini.calls()).isZero();
+    }
+
+    @Test
+    void failsOverImmediatelyWithoutWaitingForTheHedgeDelay() throws Exception {
+        AIService aiService = newService(60_000);
+        groq.failing(true);
+
+        String response = aiService.generateResponseAsync("prompt").get(5, TimeUnit.SECONDS);
+
+        assertThat(response).isEqualTo(gemini.answer());
+        assertThat(router.snapshots()).filteredOn(snapshot -> snapshot.getProvider().equals("groq"))
+                .singleElement()
+                .satisfies(snapshot -> assertThat(snapshot.getFailureRate()).isEqualTo(1.0));
+    }
+
+    @Test
+    void stopsCallingProviderOnceItsBreakerOpens() throws Exception {
+        AIService aiService = newService(60_000);
+        groq.failing(true);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(aiService.generateResponseAsync("prompt").get(5, TimeUnit.SECONDS))
+                    .isEqualTo(gemini.answer());
+        }
+
+        assertThat(state(groq)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(groq.calls()).isEqualTo(2);
+        assertThat(gemini.calls()).isEqualTo(3);
+    }
+
+    @Test
+    void recoversAfterTransientFailure() throws Exception {
+        AIService aiService = newService(60_000);
+        groq.failNext(1);
+
+        assertThat(aiService.generateResponseAsync("prompt").get(5, TimeUnit.SECONDS)).isEqualTo(gemini.answer());
+        assertThat(aiService.generateResponseAsync("prompt").get(5, TimeUnit.SECONDS)).isEqualTo(groq.answer());
+    }
+
+    @Test
+    void failsWhenEveryProviderFails() {
+        AIService aiService = newService(60_000);
+        groq.failing(true);
+        gemini.failing(true);
+
+        assertThatThrownBy(() -> aiService.generateResponseAsync("prompt").get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AIServiceException.class);
+        assertThatThrownBy(() -> aiService.generateResponse("prompt"))
+                .isInstanceOf(AIServiceException.class);
+    }
+
+    @Test
+    void streamsFromNextProviderWhenPrimaryFailsBeforeAnyToken() {
+        AIService aiService = newService(60_000);
+        groq.failing(true);
+        StringBuilder tokens = new StringBuilder();
+
+        String response = aiService.streamResponse("prompt", tokens::append);
+
+        assertThat(response).isEqualTo(gemini.answer());
+        assertThat(tokens).hasToString(gemini.answer());
+    }
+
+    private AIService newService(long hedgeDelayMs) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        Clock clock = Clock.systemUTC();
+        ProviderLimits limits = new ProviderLimits(clock, executor, registry, 16, 1, 64, 0.5, 200, 10_000, 1_000);
+        router = new ProviderRouter(List.of(groq, gemini), limits, clock, registry, List.of("groq", "gemini"), 1.0,
+                50, 60, 2, 0.5, 0.8, 20_000, 30, 1);
+
+        HedgingPolicy hedgingPolicy = new HedgingPolicy(new MockEnvironment(), registry);
+        ReflectionTestUtils.setField(hedgingPolicy, "enabled", true);
+        ReflectionTestUtils.setField(hedgingPolicy, "defaultDelayMs", hedgeDelayMs);
+        return new AIService(router, executor, hedgingPolicy);
+    }
+
+    private CircuitBreaker.State state(FakeAIProvider provider) {
+        return router.breaker(provider).snapshot().getState();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,112 @@
+package com.hireready.service;
+
+import com.hireready.MicroBenchmark;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sequential against parallel stripping of generated PDFs of growing length,
+ * to place resume.pdf.parallel.min.pages. The pool is sized to the cores, as
+ * pdfExtractionPool is by default. Run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class PdfTextExtractorBenchmark {
+
+    private static final int PAGES_PER_RANGE = 4;
+    private static final int[] PAGE_COUNTS = {6, 8, 10, 12, 16, 24};
+    private static final int LINES_PER_PAGE = 45;
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final PdfTextExtractor extractor = new PdfTextExtractor(4, pool, Mockito.mock(OCRService.class),
+            new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void sequentialAgainstParallel() throws Exception {
+        log.info("Stripping with {} cores, {} pages per range", pool.getParallelism(), PAGES_PER_RANGE);
+        ReflectionTestUtils.setField(extractor, "maxChars", Integer.MAX_VALUE);
+        ReflectionTestUtils.setField(extractor, "acquireTimeoutMs", 1_000L);
+        ReflectionTestUtils.setField(extractor, "parallelMinPages", 1);
+        ReflectionTestUtils.setField(extractor, "pagesPerRange", PAGES_PER_RANGE);
+        ReflectionTestUtils.setField(extractor, "ocrEnabled", false);
+
+        // Warm both paths up on the largest document first, so the smaller
+        // ones are not measured while PDFBox is still being compiled
+        int largest = PAGE_COUNTS[PAGE_COUNTS.length - 1];
+        ReflectionTestUtils.setField(extractor, "maxPages", largest);
+        MockMultipartFile warmUp = pdf(largest);
+        for (int i = 0; i < 50; i++) {
+            extract(warmUp, false);
+            extract(warmUp, true);
+        }
+
+        for (int pages : PAGE_COUNTS) {
+            ReflectionTestUtils.setField(extractor, "maxPages", pages);
+            MockMultipartFile pdf = pdf(pages);
+            assertThat(extract(pdf, true)).isEqualTo(extract(pdf, false));
+
+            MicroBenchmark.compare(MicroBenchmark.run(pages + " pages, sequential", () -> extract(pdf, false)),
+                    MicroBenchmark.run(pages + " pages, parallel", () -> extract(pdf, true)));
+        }
+    }
+
+    private String extract(MockMultipartFile pdf, boolean parallel) throws IOException {
+        ReflectionTestUtils.setField(extractor, "parallelEnabled", parallel);
+        return extractor.extract(pdf);
+    }
+
+    private static MockMultipartFile pdf(int pages) throws IOException {
+        return new MockMultipartFile("file", "resume.pdf", "application/pdf", createPdf(pages));
+    }
+
+    /**
+     * Pages filled with text, about as dense as a resume page
+     */
+    private static byte[] createPdf(int pages) throws IOException {
+        PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        try (PDDocument document = new PDDocument()) {
+            for (int page = 1; page <= pages; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+                    content.beginText();
+                    content.setFont(font, 10);
+                    content.setLeading(15);
+                    content.newLineAtOffset(50, 740);
+                    content.showText("Page " + page + " of the resume");
+                    for (int line = 1; line <= LINES_PER_PAGE; line++) {
+                        content.newLine();
+                        content.showText("Line " + line + " led the migration of payment services to Java 17, "
+                                + "Spring Boot and MongoDB");
+                    }
+                    content.endText();
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
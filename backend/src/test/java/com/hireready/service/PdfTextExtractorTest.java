@@ -0,0 +1,113 @@
+package com.hireready.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The parallel path must return exactly the text of the sequential one,
+ * including when the character cap ends the text partway through a range
+ */
+class PdfTextExtractorTest {
+
+    private static final int PAGES = 14;
+    private static final int PAGES_PER_RANGE = 4;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PdfTextExtractor extractor;
+    private MockMultipartFile pdf;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        extractor = new PdfTextExtractor(4, pool, Mockito.mock(OCRService.class), meterRegistry);
+        ReflectionTestUtils.setField(extractor, "maxPages", PAGES);
+        ReflectionTestUtils.setField(extractor, "acquireTimeoutMs", 1_000L);
+        ReflectionTestUtils.setField(extractor, "parallelMinPages", PAGES_PER_RANGE + 1);
+        ReflectionTestUtils.setField(extractor, "pagesPerRange", PAGES_PER_RANGE);
+        ReflectionTestUtils.setField(extractor, "ocrEnabled", false);
+        pdf = new MockMultipartFile("file", "resume.pdf", "application/pdf", createPdf());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void parallelTextMatchesSequentialWithoutCap() throws IOException {
+        String sequential = extract(false, Integer.MAX_VALUE);
+        String parallel = extract(true, Integer.MAX_VALUE);
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(parallel).contains("Page 1 ", "Page " + PAGES + " ");
+        assertThat(meterRegistry.get("resume.pdf.extraction").tag("mode", "parallel").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void parallelTextMatchesSequentialWhereverTheCapFalls() throws IOException {
+        int fullLength = extract(false, Integer.MAX_VALUE).length();
+
+        // Caps ending the text in the first range, partway through a later
+        // range and on or next to page boundaries
+        for (int cap = 1; cap <= fullLength + 1; cap += Math.max(1, fullLength / 97)) {
+            String sequential = extract(false, cap);
+            String parallel = extract(true, cap);
+
+            assertThat(parallel).as("cap %d", cap).isEqualTo(sequential);
+            assertThat(parallel).as("cap %d", cap).hasSize(Math.min(cap, fullLength));
+        }
+    }
+
+    private String extract(boolean parallel, int maxChars) throws IOException {
+        ReflectionTestUtils.setField(extractor, "parallelEnabled", parallel);
+        ReflectionTestUtils.setField(extractor, "maxChars", maxChars);
+        return extractor.extract(pdf);
+    }
+
+    /**
+     * Pages of different lengths, so caps fall at different offsets within
+     * their range
+     */
+    private static byte[] createPdf() throws IOException {
+        PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        try (PDDocument document = new PDDocument()) {
+            for (int page = 1; page <= PAGES; page++) {
+                PDPage pdPage = new PDPage();
+                document.addPage(pdPage);
+                try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+                    content.beginText();
+                    content.setFont(font, 11);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 720);
+                    content.showText("Page " + page + " of the resume");
+                    for (int line = 1; line <= 3 + page % 5; line++) {
+                        content.newLine();
+                        content.showText("Line " + line + " describes experience with Java, Spring and MongoDB");
+                    }
+                    content.endText();
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
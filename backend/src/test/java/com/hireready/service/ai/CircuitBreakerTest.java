@@ -0,0 +1,143 @@
+package com.hireready.service.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long SLOW_MS = 1_000;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final MutableClock clock = new MutableClock();
+    private final CircuitBreaker breaker = new CircuitBreaker("groq", new CircuitBreaker.Settings(10,
+            Duration.ofSeconds(60), 4, 0.5, 0.8, SLOW_MS, OPEN_DURATION, 2), clock);
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        record(0, 3);
+
+        assertThat(state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void opensWhenFailureRateCrossesThreshold() {
+        record(2, 2);
+
+        assertThat(state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.isCallPermitted()).isFalse();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.healthScore()).isZero();
+        assertThat(breaker.snapshot().getRetryAt()).isEqualTo(clock.instant().plus(OPEN_DURATION));
+    }
+
+    @Test
+    void opensWhenSlowCallRateCrossesThreshold() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess(SLOW_MS);
+        }
+
+        assertThat(state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void failuresOutsideTheWindowAgeOut() {
+        record(0, 3);
+        clock.advance(Duration.ofSeconds(61));
+        record(0, 1);
+
+        assertThat(state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.snapshot().getCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void healthDropsWithFailuresAndSlowCalls() {
+        record(2, 1);
+        breaker.onSuccess(SLOW_MS);
+
+        assertThat(breaker.healthScore()).isEqualTo(1.0 - 0.25 - 0.5 * 0.25);
+    }
+
+    @Test
+    void goesHalfOpenAfterOpenDurationAndLimitsProbes() {
+        record(0, 4);
+        clock.advance(OPEN_DURATION.minusSeconds(1));
+        assertThat(state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        clock.advance(Duration.ofSeconds(1));
+
+        assertThat(state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.isCallPermitted()).isFalse();
+    }
+
+    @Test
+    void closesWithFreshWindowWhenProbesSucceed() {
+        record(0, 4);
+        clock.advance(OPEN_DURATION);
+        breaker.tryAcquirePermission();
+        breaker.tryAcquirePermission();
+
+        breaker.onSuccess(10);
+        assertThat(state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.onSuccess(10);
+
+        assertThat(state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.snapshot().getCalls()).isZero();
+        assertThat(breaker.healthScore()).isEqualTo(1.0);
+    }
+
+    @Test
+    void reopensWhenProbeFails() {
+        record(0, 4);
+        clock.advance(OPEN_DURATION);
+        breaker.tryAcquirePermission();
+
+        breaker.onFailure(10);
+
+        assertThat(state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.snapshot().getRetryAt()).isEqualTo(clock.instant().plus(OPEN_DURATION));
+    }
+
+    @Test
+    void reopensWhenProbeIsSlow() {
+        record(0, 4);
+        clock.advance(OPEN_DURATION);
+        breaker.tryAcquirePermission();
+
+        breaker.onSuccess(SLOW_MS);
+
+        assertThat(state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void ignoredProbeFreesItsSlot() {
+        record(0, 4);
+        clock.advance(OPEN_DURATION);
+        breaker.tryAcquirePermission();
+        breaker.tryAcquirePermission();
+
+        breaker.onIgnored();
+
+        assertThat(state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.isCallPermitted()).isTrue();
+    }
+
+    private void record(int successes, int failures) {
+        for (int i = 0; i < successes; i++) {
+            breaker.onSuccess(10);
+        }
+        for (int i = 0; i < failures; i++) {
+            breaker.onFailure(10);
+        }
+    }
+
+    private CircuitBreaker.State state() {
+        return breaker.snapshot().getState();
+    }
+}
@@ -0,0 +1,109 @@
+package com.hireready.service.ai;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * An AI provider that answers "<name> answer" after a configurable latency, or
+ * fails with an IOException, and counts the calls it received and the calls
+ * cancelled before they finished.
+ */
+public class FakeAIProvider implements AIProvider {
+
+    private final String name;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger cancelled = new AtomicInteger();
+    private final AtomicInteger failuresRemaining = new AtomicInteger();
+    private volatile long latencyMs;
+    private volatile boolean failing;
+
+    public FakeAIProvider(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Answer or fail this long after each call
+     */
+    public FakeAIProvider latency(long latencyMs) {
+        this.latencyMs = latencyMs;
+        return this;
+    }
+
+    /**
+     * Fail every call from now on, or stop failing
+     */
+    public FakeAIProvider failing(boolean failing) {
+        this.failing = failing;
+        return this;
+    }
+
+    /**
+     * Fail only the next given number of calls
+     */
+    public FakeAIProvider failNext(int calls) {
+        failuresRemaining.set(calls);
+        return this;
+    }
+
+    public int calls() {
+        return calls.get();
+    }
+
+    public int cancelled() {
+        return cancelled.get();
+    }
+
+    public String answer() {
+        return name + " answer";
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public CompletableFuture<String> generate(String prompt) {
+        calls.incrementAndGet();
+        boolean fail = shouldFail();
+
+        CompletableFuture<String> response = new CompletableFuture<>();
+        response.whenComplete((text, e) -> {
+            if (response.isCancelled()) {
+                cancelled.incrementAndGet();
+            }
+        });
+        CompletableFuture.delayedExecutor(latencyMs, TimeUnit.MILLISECONDS).execute(() -> {
+            if (fail) {
+                response.completeExceptionally(new IOException(name + " failed"));
+            } else {
+                response.complete(answer());
+            }
+        });
+        return response;
+    }
+
+    @Override
+    public String stream(String prompt, Consumer<String> onToken) throws IOException {
+        calls.incrementAndGet();
+        boolean fail = shouldFail();
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(name + " stream interrupted", e);
+        }
+        if (fail) {
+            throw new IOException(name + " failed");
+        }
+        onToken.accept(answer());
+        return answer();
+    }
+
+    private boolean shouldFail() {
+        return failing || failuresRemaining.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0;
+    }
+}
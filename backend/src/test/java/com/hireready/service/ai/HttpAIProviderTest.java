@@ -0,0 +1,89 @@
+package com.hireready.service.ai;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A callback executor that rejects the completion must not leave the future
+ * pending
+ */
+class HttpAIProviderTest {
+
+    private static final Executor REJECTING = command -> {
+        throw new RejectedExecutionException("queue full");
+    };
+
+    @Test
+    void completesInlineWhenCallbackExecutorRejects() throws Exception {
+        TestProvider provider = new TestProvider(200, "{\"answer\": 42}");
+
+        CompletableFuture<String> future = provider.generate("prompt");
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("{\"answer\": 42}");
+    }
+
+    @Test
+    void failsInlineWhenCallbackExecutorRejects() {
+        TestProvider provider = new TestProvider(500, "boom");
+
+        CompletableFuture<String> future = provider.generate("prompt");
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IOException.class);
+    }
+
+    /**
+     * Answers every request with a fixed response instead of going to the
+     * network
+     */
+    private static class TestProvider extends HttpAIProvider {
+
+        TestProvider(int code, String body) {
+            super(new OkHttpClient.Builder()
+                    .addInterceptor(chain -> new Response.Builder()
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_1_1)
+                            .code(code)
+                            .message("status " + code)
+                            .body(ResponseBody.create(body, MediaType.get("application/json")))
+                            .build())
+                    .build(), REJECTING, Mockito.mock(ProviderLimits.class));
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public CompletableFuture<String> generate(String prompt) {
+            Request request = new Request.Builder().url("http://localhost/generate").build();
+            return executeAsync(request, response -> {
+                if (!response.isSuccessful()) {
+                    throw new IOException("request failed: " + response.code());
+                }
+                return response.body().string();
+            });
+        }
+
+        @Override
+        public String stream(String prompt, Consumer<String> onToken) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
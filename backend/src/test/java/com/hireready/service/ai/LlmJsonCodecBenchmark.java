@@ -0,0 +1,180 @@
+package com.hireready.service.ai;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import com.hireready.MicroBenchmark;
+import com.hireready.dto.ai.AnswerEvaluationResult;
+import com.hireready.dto.ai.AtsAnalysisResult;
+import com.hireready.dto.ai.ResumeParseResult;
+import com.hireready.model.Resume;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares decoding AI responses into the typed records against the JsonObject
+ * tree walk with per-field TypeTokens that ResumeService and
+ * LiveInterviewService used before. Both paths share the same extraction and
+ * repair step, so the difference is the binding only. Run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class LlmJsonCodecBenchmark {
+
+    private static final String RESUME_PARSE_RESPONSE = """
+            Here is the structured data extracted from the resume:
+            ```json
+            {
+              "skills": ["Java", "Spring Boot", "MongoDB", "Kafka", "Docker", "Kubernetes", {"name": "React"},
+                         {"skill": "TypeScript"}, "AWS", "Redis", "PostgreSQL", "GraphQL"],
+              "projects": [
+                {"name": "Order Pipeline", "description": "Event-driven order processing handling 2M events a day with exactly-once delivery",
+                 "technologies": ["Java", "Kafka", "MongoDB"], "duration": "Jan 2022 - Dec 2022"},
+                {"name": "Pricing Engine", "description": "Rules engine for dynamic pricing with sub-10ms p99 latency",
+                 "technologies": ["Spring Boot", "Redis"], "duration": "Mar 2021 - Nov 2021"},
+                {"name": "Admin Console", "description": "Internal dashboard for support and operations teams",
+                 "technologies": ["React", "TypeScript", "GraphQL"], "duration": "2020"}
+              ],
+              "education": [
+                {"institution": "National Institute of Technology", "degree": "B.Tech", "field": "Computer Science",
+                 "duration": "2014 - 2018", "grade": "8.7 CGPA"},
+                {"institution": "Delhi Public School", "degree": "Senior Secondary", "field": "Science",
+                 "duration": "2012 - 2014", "grade": "94%"}
+              ],
+              "achievements": ["Winner of the regional hackathon 2019", {"achievement": "Speaker at JavaConf 2022"},
+                               "Filed one patent on streaming deduplication"],
+              "experience": [
+                {"company": "Acme Commerce", "position": "Senior Software Engineer", "duration": "2021 - Present",
+                 "responsibilities": ["Led a team of five engineers on the checkout platform",
+                                      "Cut order processing latency by 40% through batching",
+                                      "Owned the on-call rotation and incident reviews"]},
+                {"company": "Globex", "position": "Software Engineer", "duration": "2018 - 2021",
+                 "responsibilities": ["Built the pricing service from scratch", "Migrated reporting jobs to Spark"]}
+              ]
+            }
+            ```
+            Let me know if you need anything else.""";
+
+    private static final String ATS_RESPONSE = """
+            ```json
+            {
+              "atsScore": 78,
+              "skillGapAnalysis": {"missing": ["Terraform", "gRPC"], "strong": ["Java", "Kafka"], "coverage": 0.72},
+              "weaknesses": ["No quantified impact for the admin console", {"weakness": "Summary section is missing"}],
+              "recommendations": ["Add a short professional summary", "Quantify results for every project",
+                                  {"recommendation": "List cloud certifications"}],
+              "improvedBulletPoints": ["Reduced checkout latency by 40% by batching writes to MongoDB",
+                                       "Scaled the order pipeline to 2M events a day with exactly-once delivery"],
+              "atsKeywords": ["microservices", "event-driven", "distributed systems", {"keyword": "CI/CD"}]
+            }
+            ```""";
+
+    private static final String EVALUATION_RESPONSE = """
+            {"score": 7, "feedback": "Clear explanation of the trade-offs between eventual and strong consistency, \
+            but the answer skipped how conflicts are resolved."}""";
+
+    private final LlmJsonCodec codec = new LlmJsonCodec();
+    private final Gson gson = new Gson();
+
+    @Test
+    void resumeAnalysis() throws Exception {
+        assertThat(typedResume()).usingRecursiveComparison().isEqualTo(treeWalkResume());
+
+        MicroBenchmark.compare(MicroBenchmark.run("resume parse + ATS, tree walk", this::treeWalkResume),
+                MicroBenchmark.run("resume parse + ATS, typed", this::typedResume));
+    }
+
+    @Test
+    void answerEvaluation() throws Exception {
+        assertThat(typedEvaluation()).isEqualTo(treeWalkEvaluation());
+
+        MicroBenchmark.compare(MicroBenchmark.run("answer evaluation, tree walk", this::treeWalkEvaluation),
+                MicroBenchmark.run("answer evaluation, typed", this::typedEvaluation));
+    }
+
+    private Resume typedResume() {
+        ResumeParseResult parsed = codec.decode(RESUME_PARSE_RESPONSE, ResumeParseResult.class);
+        AtsAnalysisResult ats = codec.decode(ATS_RESPONSE, AtsAnalysisResult.class);
+
+        Resume resume = new Resume();
+        resume.setSkills(parsed.skills());
+        resume.setProjects(parsed.projects());
+        resume.setEducations(parsed.education());
+        resume.setAchievements(parsed.achievements());
+        resume.setExperiences(parsed.experience());
+        resume.setAtsScore(ats.atsScore());
+        resume.setSkillGapAnalysis(ats.skillGapAnalysis());
+        resume.setWeaknesses(ats.weaknesses());
+        resume.setRecommendations(ats.recommendations());
+        resume.setImprovedBulletPoints(ats.improvedBulletPoints());
+        resume.setAtsKeywords(ats.atsKeywords());
+        return resume;
+    }
+
+    /**
+     * The pre-record ResumeService binding, without its per-field try/catch
+     */
+    private Resume treeWalkResume() {
+        JsonObject parsedData = codec.decode(RESUME_PARSE_RESPONSE, JsonObject.class);
+        JsonObject atsData = codec.decode(ATS_RESPONSE, JsonObject.class);
+
+        Resume resume = new Resume();
+        resume.setSkills(parseStringList(parsedData.get("skills")));
+        resume.setProjects(gson.fromJson(parsedData.get("projects"), new TypeToken<List<Resume.Project>>() {
+        }.getType()));
+        resume.setEducations(gson.fromJson(parsedData.get("education"), new TypeToken<List<Resume.Education>>() {
+        }.getType()));
+        resume.setAchievements(parseStringList(parsedData.get("achievements")));
+        resume.setExperiences(gson.fromJson(parsedData.get("experience"), new TypeToken<List<Resume.Experience>>() {
+        }.getType()));
+        resume.setAtsScore(atsData.get("atsScore").getAsDouble());
+        resume.setSkillGapAnalysis(gson.fromJson(atsData.get("skillGapAnalysis"), new TypeToken<Map<String, Object>>() {
+        }.getType()));
+        resume.setWeaknesses(parseStringList(atsData.get("weaknesses")));
+        resume.setRecommendations(parseStringList(atsData.get("recommendations")));
+        resume.setImprovedBulletPoints(parseStringList(atsData.get("improvedBulletPoints")));
+        resume.setAtsKeywords(parseStringList(atsData.get("atsKeywords")));
+        return resume;
+    }
+
+    private List<Object> typedEvaluation() {
+        AnswerEvaluationResult result = codec.decode(EVALUATION_RESPONSE, AnswerEvaluationResult.class);
+        return List.of(result.score().intValue(), result.feedback());
+    }
+
+    private List<Object> treeWalkEvaluation() {
+        JsonObject evalObj = codec.decode(EVALUATION_RESPONSE, JsonObject.class);
+        return List.of(evalObj.get("score").getAsInt(), evalObj.get("feedback").getAsString());
+    }
+
+    private static List<String> parseStringList(JsonElement jsonElement) {
+        if (jsonElement == null || !jsonElement.isJsonArray()) {
+            return List.of();
+        }
+        JsonArray jsonArray = jsonElement.getAsJsonArray();
+        List<String> result = new ArrayList<>();
+        for (JsonElement item : jsonArray) {
+            if (item.isJsonPrimitive()) {
+                result.add(item.getAsString());
+            } else if (item.isJsonObject()) {
+                JsonObject obj = item.getAsJsonObject();
+                for (String key : List.of("name", "value", "skill", "achievement", "weakness", "recommendation",
+                        "keyword", "description")) {
+                    if (obj.has(key)) {
+                        result.add(obj.get(key).getAsString());
+                        break;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
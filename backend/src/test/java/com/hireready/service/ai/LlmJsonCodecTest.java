@@ -0,0 +1,151 @@
+package com.hireready.service.ai;
+
+import com.google.gson.JsonParseException;
+import com.hireready.dto.ai.AnswerEvaluationResult;
+import com.hireready.dto.ai.AnswerScoreResult;
+import com.hireready.dto.ai.FinalReportResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LlmJsonCodecTest {
+
+    private final LlmJsonCodec codec = new LlmJsonCodec();
+
+    @Test
+    void decodesJsonInsideCodeFenceAndProse() {
+        String response = "Here is the evaluation:\n```json\n{\"score\": 8, \"feedback\": \"Good\"}\n```\nHope it helps.";
+
+        AnswerEvaluationResult result = codec.decode(response, AnswerEvaluationResult.class);
+
+        assertThat(result.score()).isEqualTo(8.0);
+        assertThat(result.feedback()).isEqualTo("Good");
+    }
+
+    @Test
+    void repairsSmartQuotes() {
+        String response = "{“score”: 7, “feedback”: “Clear answer”}";
+
+        AnswerEvaluationResult result = codec.decode(response, AnswerEvaluationResult.class);
+
+        assertThat(result.score()).isEqualTo(7.0);
+        assertThat(result.feedback()).isEqualTo("Clear answer");
+    }
+
+    @Test
+    void repairsTrailingCommas() {
+        String response = "{\"overallScore\": 80, \"strengths\": [\"Depth\", \"Clarity\",],}";
+
+        FinalReportResult report = codec.decode(response, FinalReportResult.class);
+
+        assertThat(report.overallScore()).isEqualTo(80);
+        assertThat(report.strengths()).containsExactly("Depth", "Clarity");
+        assertThat(report.decision()).isEqualTo("SELECTED");
+    }
+
+    @Test
+    void repairsRawNewlinesInStrings() {
+        String response = "{\"score\": 6, \"feedback\": \"line one\nline two\"}";
+
+        AnswerEvaluationResult result = codec.decode(response, AnswerEvaluationResult.class);
+
+        assertThat(result.feedback()).isEqualTo("line one\nline two");
+    }
+
+    @Test
+    void keepsTruncatedStringValue() {
+        String response = "```json\n{\"score\": 9, \"feedback\": \"Strong answer with det";
+
+        AnswerEvaluationResult result = codec.decode(response, AnswerEvaluationResult.class);
+
+        assertThat(result.score()).isEqualTo(9.0);
+        assertThat(result.feedback()).isEqualTo("Strong answer with det");
+    }
+
+    @Test
+    void dropsMemberCutOffInItsKey() {
+        String response = "{\"score\": 9, \"feedb";
+
+        AnswerEvaluationResult result = codec.decode(response, AnswerEvaluationResult.class);
+
+        assertThat(result.score()).isEqualTo(9.0);
+        assertThat(result.feedback()).isNull();
+    }
+
+    @Test
+    void readsLenientFieldValues() {
+        String response = "{\"score\": \"8.5/10\", \"feedback\": 42, \"detectedEmotions\": \"calm\"}";
+
+        AnswerEvaluationResult result = codec.decode(response, AnswerEvaluationResult.class);
+
+        assertThat(result.score()).isEqualTo(8.5);
+        assertThat(result.feedback()).isEqualTo("42");
+        assertThat(result.detectedEmotions()).containsExactly("calm");
+    }
+
+    @Test
+    void readsStringListFromLabelObjects() {
+        List<String> skills = codec.decode("[{\"name\": \"Java\"}, \"Spring\", {\"level\": 3}]",
+                LlmJsonCodec.STRING_LIST);
+
+        assertThat(skills).containsExactly("Java", "Spring", "3");
+    }
+
+    @Test
+    void skipsCandidateOfTheWrongShape() {
+        String response = "Scores [see below]: {\"overallScore\": 55}";
+
+        FinalReportResult report = codec.decode(response, FinalReportResult.class);
+
+        assertThat(report.overallScore()).isEqualTo(55);
+        assertThat(report.decision()).isEqualTo("WAITLISTED");
+    }
+
+    @Test
+    void failsWhenRequiredFieldIsMissing() {
+        assertThatThrownBy(() -> codec.decode("{\"feedback\": \"No score here\"}", AnswerEvaluationResult.class))
+                .isInstanceOf(JsonParseException.class)
+                .hasMessageContaining("score");
+        assertThatThrownBy(() -> codec.decode("{\"decision\": \"SELECTED\"}", FinalReportResult.class))
+                .isInstanceOf(JsonParseException.class)
+                .hasMessageContaining("overallScore");
+    }
+
+    @Test
+    void triesNextCandidateWhenRequiredFieldIsMissing() {
+        String response = "For example {\"feedback\": \"x\"}. Actual: {\"score\": 5, \"feedback\": \"y\"}";
+
+        AnswerEvaluationResult result = codec.decode(response, AnswerEvaluationResult.class);
+
+        assertThat(result.score()).isEqualTo(5.0);
+        assertThat(result.feedback()).isEqualTo("y");
+    }
+
+    @Test
+    void dropsBatchEntriesMissingRequiredFieldsAndCutOffEntries() {
+        String response = "[{\"questionNumber\": 1, \"score\": 7, \"feedback\": \"ok\"},"
+                + " {\"questionNumber\": 2, \"feedback\": \"no score\"},"
+                + " {\"questionNumber\": 3, \"sco";
+
+        List<AnswerScoreResult> results = codec.decode(response, LlmJsonCodec.ANSWER_SCORE_LIST);
+
+        assertThat(results).containsExactly(new AnswerScoreResult(1, 7.0, "ok"));
+    }
+
+    @Test
+    void failsWithoutJson() {
+        assertThatThrownBy(() -> codec.decode("Sorry, I cannot help with that.", AnswerEvaluationResult.class))
+                .isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> codec.decode(null, AnswerEvaluationResult.class))
+                .isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    void extractsRepairedJson() {
+        assertThat(codec.extract("```json\n{\"a\": 1,}\n```")).isEqualTo("{\"a\": 1}");
+        assertThat(codec.extract("{\"a\": [1, 2")).isEqualTo("{\"a\": [1, 2]}");
+    }
+}
@@ -0,0 +1,82 @@
+package com.hireready.service.ai;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderRouterTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final FakeAIProvider groq = new FakeAIProvider("groq");
+    private final FakeAIProvider gemini = new FakeAIProvider("gemini");
+    private final ProviderRouter router = newRouter();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void ordersProvidersByConfiguredPriority() {
+        assertThat(router.route()).containsExactly(groq, gemini);
+    }
+
+    @Test
+    void keepsPriorityWhenHealthDiffersByLessThanMargin() {
+        record(groq, 9, 1);
+
+        assertThat(router.route()).containsExactly(groq, gemini);
+    }
+
+    @Test
+    void routesToClearlyHealthierProviderFirst() {
+        record(groq, 3, 1);
+
+        assertThat(router.route()).containsExactly(gemini, groq);
+    }
+
+    @Test
+    void skipsProviderWithOpenBreakerUntilItMayProbe() {
+        record(groq, 0, 4);
+        assertThat(router.route()).containsExactly(gemini);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(router.route()).containsExactly(gemini, groq);
+
+        assertThat(router.breaker(groq).tryAcquirePermission()).isTrue();
+        assertThat(router.route()).containsExactly(gemini);
+    }
+
+    @Test
+    void movesProviderBackingOffFromRateLimitsLast() {
+        router.limiter(groq).pause(Duration.ofSeconds(10));
+
+        assertThat(router.route()).containsExactly(gemini, groq);
+    }
+
+    private void record(AIProvider provider, int successes, int failures) {
+        CircuitBreaker breaker = router.breaker(provider);
+        for (int i = 0; i < successes; i++) {
+            breaker.onSuccess(10);
+        }
+        for (int i = 0; i < failures; i++) {
+            breaker.onFailure(10);
+        }
+    }
+
+    private ProviderRouter newRouter() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ProviderLimits limits = new ProviderLimits(clock, executor, registry, 16, 1, 64, 0.5, 200, 10_000, 1_000);
+        return new ProviderRouter(List.of(gemini, groq), limits, clock, registry, List.of("groq", "gemini"), 0.2,
+                10, 60, 4, 0.5, 0.8, 1_000, 30, 1);
+    }
+}